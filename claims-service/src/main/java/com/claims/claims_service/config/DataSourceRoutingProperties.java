@@ -0,0 +1,34 @@
+package com.claims.claims_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas used for read-only transactions when {@code claims.datasource.routing.enabled} is set.
+ * The primary keeps its usual {@code spring.datasource.*} configuration.
+ */
+@Data
+@ConfigurationProperties(prefix = "claims.datasource.routing")
+public class DataSourceRoutingProperties {
+    
+    private boolean enabled;
+    
+    // How long a client's reads stay on the primary after it writes, to cover replica lag
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    
+    private List<Replica> replicas = new ArrayList<>();
+    
+    @Data
+    public static class Replica {
+        
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,143 @@
+package com.claims.claims_service.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Decides when a read-only transaction must stay on the primary so a client sees its own writes.
+ *
+ * The guard travels with the client: a write made while serving a request stamps the response with
+ * the write time, as a cookie and a header, and a later request carrying a stamp younger than the
+ * window reads from the primary, whichever instance serves it. Writes made off the request thread
+ * (intake group commits) are registered by owner id instead, and the owner's reads on this
+ * instance stay on the primary for the window; {@link #stamp} lets such a flow hand the client a
+ * stamp once it reports the write, so its next reads are covered on every instance.
+ *
+ * Stamps are compared with this instance's clock, so instance clocks are assumed to agree to well
+ * within the window.
+ */
+public class ReadYourWritesTracker {
+    
+    public static final String HEADER = "X-Claims-Last-Write";
+    public static final String COOKIE = "claims_last_write";
+    
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".lastWrite";
+    
+    private final Duration window;
+    private final Clock clock;
+    private final Cache<String, Boolean> recentWriters;
+    
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+    
+    /**
+     * Record a write by the current request's user, stamping the response
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+        stamp(clock.millis());
+    }
+    
+    /**
+     * Record a write made on behalf of the owner outside a request
+     */
+    public void recordWrite(String ownerId) {
+        recentWriters.put(ownerId, Boolean.TRUE);
+    }
+    
+    /**
+     * Stamp the current response, if any, with a write made at the given epoch-millisecond time
+     */
+    public void stamp(long writtenAtMillis) {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return;
+        }
+        Object previous = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (previous instanceof Long last && last >= writtenAtMillis) {
+            return;
+        }
+        attributes.setAttribute(REQUEST_ATTRIBUTE, writtenAtMillis, RequestAttributes.SCOPE_REQUEST);
+        
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        String value = Long.toString(writtenAtMillis);
+        response.setHeader(HEADER, value);
+        Cookie cookie = new Cookie(COOKIE, value);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        response.addCookie(cookie);
+    }
+    
+    /**
+     * Whether reads for the current request or user must go to the primary
+     */
+    public boolean requiresPrimary() {
+        Long lastWrite = lastWriteOfRequest();
+        if (lastWrite != null && clock.millis() - lastWrite < window.toMillis()) {
+            return true;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+    
+    // This request's own write, else the stamp the client sent back
+    private Long lastWriteOfRequest() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return null;
+        }
+        if (attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long last) {
+            return last;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+    
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
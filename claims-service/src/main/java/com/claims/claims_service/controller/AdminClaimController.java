@@ -1,25 +1,49 @@
 package com.claims.claims_service.controller;
 
+import com.claims.claims_service.dto.request.BulkClaimApprovalRequest;
+import com.claims.claims_service.dto.request.BulkClaimRejectionRequest;
+import com.claims.claims_service.dto.request.BulkClaimTransitionRequest;
 import com.claims.claims_service.dto.request.ClaimApprovalRequest;
 import com.claims.claims_service.dto.request.ClaimRejectionRequest;
+import com.claims.claims_service.dto.response.BulkClaimTransitionResponse;
+import com.claims.claims_service.dto.response.ClaimDailyRollupResponse;
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import com.claims.claims_service.dto.response.ClaimLeaseResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSearchResponse;
+import com.claims.claims_service.dto.response.ClaimSimilarityResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.dto.response.CursorPageResponse;
 import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.service.ClaimDocumentService;
+import com.claims.claims_service.service.ClaimExportService;
+import com.claims.claims_service.service.ClaimRollupService;
+import com.claims.claims_service.service.ClaimSearchService;
 import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.ClaimSimilarityService;
+import com.claims.claims_service.util.RangeFileSender;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +61,11 @@ import java.util.Map;
 public class AdminClaimController {
     
     private final ClaimService claimService;
+    private final ClaimExportService claimExportService;
+    private final ClaimDocumentService claimDocumentService;
+    private final ClaimSearchService claimSearchService;
+    private final ClaimRollupService claimRollupService;
+    private final ClaimSimilarityService claimSimilarityService;
     
     /**
      * Get all claims in the system
@@ -85,6 +114,401 @@ public class AdminClaimController {
         return ResponseEntity.ok(claims);
     }
     
+    /**
+     * Get lightweight summaries of claims by status
+     * Omits descriptions, rejection reasons and admin notes
+     *
+     * @param status the claim status to filter by
+     * @return list of claim summaries with the specified status
+     */
+    @GetMapping("/by-status/{status}/summary")
+    @Operation(summary = "Get claim summaries by status", description = "Retrieve summaries of claims filtered by status, without free-text fields (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claim summaries retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid status"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<List<ClaimSummaryResponse>> getClaimSummariesByStatus(
+            @Parameter(description = "Claim status (SUBMITTED, UNDER_REVIEW, APPROVED, REJECTED, SETTLED, CANCELLED)")
+            @PathVariable Claim.ClaimStatus status) {
+        
+        log.info("Admin is retrieving claim summaries with status {}", status);
+        
+        List<ClaimSummaryResponse> summaries = claimService.getClaimSummariesByStatus(status);
+        log.info("Retrieved {} claim summaries with status {}", summaries.size(), status);
+        
+        return ResponseEntity.ok(summaries);
+    }
+    
+    /**
+     * Get one page of all claims, newest first
+     * Uses keyset pagination so latency does not grow with the size of the claims table
+     *
+     * @param cursor the cursor returned with the previous page (omit for the first page)
+     * @param size the page size
+     * @return the requested page and the cursor for the next one
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get claims page", description = "Retrieve claims one page at a time, newest first (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claims page retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<CursorPageResponse<ClaimResponse>> getClaimsPage(
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer size) {
+        
+        log.info("Admin is retrieving a claims page");
+        
+        CursorPageResponse<ClaimResponse> page = claimService.getClaimsPage(cursor, size);
+        log.info("Retrieved {} claims, hasMore={}", page.getSize(), page.isHasMore());
+        
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Get one page of claims by status, newest first
+     *
+     * @param status the claim status to filter by
+     * @param cursor the cursor returned with the previous page (omit for the first page)
+     * @param size the page size
+     * @return the requested page and the cursor for the next one
+     */
+    @GetMapping("/by-status/{status}/page")
+    @Operation(summary = "Get claims page by status", description = "Retrieve claims with a status one page at a time, newest first (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claims page retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid status, cursor or page size"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<CursorPageResponse<ClaimResponse>> getClaimsPageByStatus(
+            @Parameter(description = "Claim status (SUBMITTED, UNDER_REVIEW, APPROVED, REJECTED, SETTLED, CANCELLED)")
+            @PathVariable Claim.ClaimStatus status,
+            @Parameter(description = "Cursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer size) {
+        
+        log.info("Admin is retrieving a claims page with status {}", status);
+        
+        CursorPageResponse<ClaimResponse> page = claimService.getClaimsPageByStatus(status, cursor, size);
+        log.info("Retrieved {} claims with status {}, hasMore={}", page.getSize(), status, page.isHasMore());
+        
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Export all claims as NDJSON or CSV
+     * Rows are streamed from a database cursor directly to the response
+     *
+     * @param format the export format (NDJSON or CSV)
+     * @param status optional claim status to filter by
+     * @return the streaming export
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export claims", description = "Stream all claims as NDJSON or CSV for reconciliation (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid format or status"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<StreamingResponseBody> exportClaims(
+            @Parameter(description = "Export format (NDJSON, CSV)")
+            @RequestParam(defaultValue = "NDJSON") ClaimExportService.ExportFormat format,
+            @Parameter(description = "Optional claim status filter")
+            @RequestParam(required = false) Claim.ClaimStatus status) {
+        
+        log.info("Admin is exporting claims as {} with status filter {}", format, status);
+        
+        StreamingResponseBody body = outputStream -> {
+            long exported = claimExportService.exportClaims(format, status, outputStream);
+            log.info("Exported {} claims as {}", exported, format);
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"claims." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+    
+    /**
+     * Full-text search over claim descriptions and incident locations
+     *
+     * @param q the free-text query
+     * @param status optional claim status filter
+     * @param policyType optional policy type filter
+     * @param from optional earliest submission date (inclusive)
+     * @param to optional latest submission date (inclusive)
+     * @param limit maximum number of hits
+     * @return ranked hits, best match first
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search claims", description = "Ranked full-text search over claim descriptions and incident locations (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing query or invalid filter"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ClaimSearchResponse> searchClaims(
+            @Parameter(description = "Free-text query, e.g. \"flooded basement\"")
+            @RequestParam String q,
+            @Parameter(description = "Optional claim status filter")
+            @RequestParam(required = false) Claim.ClaimStatus status,
+            @Parameter(description = "Optional policy type filter")
+            @RequestParam(required = false) Claim.PolicyType policyType,
+            @Parameter(description = "Earliest submission date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Latest submission date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Maximum number of hits (default 20, max 100)")
+            @RequestParam(required = false) Integer limit) {
+        
+        log.info("Admin is searching claims for '{}'", q);
+        
+        ClaimSearchResponse response = claimSearchService.searchClaims(q, status, policyType, from, to, limit);
+        log.info("Search for '{}' returned {} claims", q, response.getSize());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Claims whose description and incident location are copies or light edits of the given claim's,
+     * e.g. the same story filed by several users or on several policies
+     *
+     * @param claimNumber the claim to compare against
+     * @param minSimilarity lowest similarity to report, between 0 and 1
+     * @param limit maximum number of hits
+     * @return similar claims with similarity scores, most similar first
+     */
+    @GetMapping("/{claimNumber}/similar")
+    @Operation(summary = "Find similar claims", description = "Near-duplicate claims by description and incident location (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Similar claims retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid minimum similarity"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<ClaimSimilarityResponse> findSimilarClaims(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @Parameter(description = "Lowest similarity to report, between 0 and 1 (default 0.5)")
+            @RequestParam(required = false) Double minSimilarity,
+            @Parameter(description = "Maximum number of hits (default 20, max 100)")
+            @RequestParam(required = false) Integer limit) {
+        
+        log.info("Admin is looking for claims similar to {}", claimNumber);
+        
+        ClaimSimilarityResponse response = claimSimilarityService.findSimilarClaims(claimNumber, minSimilarity, limit);
+        log.info("Found {} claims similar to {}", response.getSize(), claimNumber);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Daily claim counts and amounts for trend charts, read from the pre-aggregated rollups
+     *
+     * @param from first submission date (inclusive)
+     * @param to last submission date (inclusive)
+     * @param policyType optional policy type filter
+     * @param claimType optional claim type filter
+     * @param status optional claim status filter
+     * @return one row per day, policy type, claim type and status that has claims
+     */
+    @GetMapping("/rollups/daily")
+    @Operation(summary = "Get daily claim rollups", description = "Claim counts and claimed/approved totals per submission day, policy type, claim type and status (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rollups retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid or too large date range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<List<ClaimDailyRollupResponse>> getDailyRollups(
+            @Parameter(description = "First submission date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last submission date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Optional policy type filter")
+            @RequestParam(required = false) Claim.PolicyType policyType,
+            @Parameter(description = "Optional claim type filter")
+            @RequestParam(required = false) Claim.ClaimType claimType,
+            @Parameter(description = "Optional claim status filter")
+            @RequestParam(required = false) Claim.ClaimStatus status) {
+        
+        log.info("Admin is retrieving daily rollups from {} to {}", from, to);
+        
+        List<ClaimDailyRollupResponse> rollups =
+                claimRollupService.getDailyRollups(from, to, policyType, claimType, status);
+        
+        return ResponseEntity.ok(rollups);
+    }
+    
+    /**
+     * Recompute the daily rollups from the claims table
+     *
+     * @return no content
+     */
+    @PostMapping("/rollups/daily/rebuild")
+    @Operation(summary = "Rebuild daily claim rollups", description = "Recompute all daily rollups from the claims table (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Rollups rebuilt successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<Void> rebuildDailyRollups() {
+        
+        log.info("Admin is rebuilding daily rollups");
+        
+        claimRollupService.rebuildDailyRollups();
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * List the documents of any claim
+     *
+     * @param claimNumber the claim number
+     * @return list of document metadata, newest first
+     */
+    @GetMapping("/{claimNumber}/documents")
+    @Operation(summary = "List claim documents", description = "List the documents of any claim (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Documents retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<List<ClaimDocumentResponse>> getClaimDocuments(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber) {
+        
+        log.info("Admin is retrieving documents of claim {}", claimNumber);
+        
+        List<ClaimDocumentResponse> documents = claimDocumentService.getDocumentsAsAdmin(claimNumber);
+        log.info("Retrieved {} documents of claim {}", documents.size(), claimNumber);
+        
+        return ResponseEntity.ok(documents);
+    }
+    
+    /**
+     * Download a document of any claim, with HTTP Range support
+     *
+     * @param claimNumber the claim number
+     * @param documentId the document id
+     */
+    @GetMapping("/{claimNumber}/documents/{documentId}")
+    @Operation(summary = "Download claim document", description = "Download a document of any claim; supports Range requests (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Document content"),
+        @ApiResponse(responseCode = "206", description = "Requested range of the document content"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+        @ApiResponse(responseCode = "404", description = "Claim or document not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    public void downloadClaimDocument(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @Parameter(description = "Document id")
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        log.info("Admin is downloading document {} of claim {}", documentId, claimNumber);
+        
+        ClaimDocumentService.DocumentFile document =
+                claimDocumentService.getDocumentFileAsAdmin(claimNumber, documentId);
+        RangeFileSender.send(request, response,
+                document.path(), document.size(), document.contentType(), document.fileName());
+    }
+    
+    /**
+     * Lease the next claim to review from the severity-ordered queue
+     *
+     * @param jwt the authenticated admin's JWT token
+     * @return the leased claim, or 204 when no claim is waiting
+     */
+    @PostMapping("/queue/next")
+    @Operation(summary = "Lease next claim to review", description = "Lease the highest-priority unassigned SUBMITTED claim (CRITICAL first, then oldest) to the caller for a limited time (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claim leased successfully"),
+        @ApiResponse(responseCode = "204", description = "No claim is waiting for review"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<ClaimLeaseResponse> leaseNextClaim(@AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is requesting the next claim to review", adminUserId);
+        
+        return claimService.leaseNextClaim(adminUserId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+    
+    /**
+     * Extend the caller's review lease on a claim
+     *
+     * @param claimNumber the claim number
+     * @param jwt the authenticated admin's JWT token
+     * @return the claim with its new lease expiry
+     */
+    @PatchMapping("/{claimNumber}/lease")
+    @Operation(summary = "Renew review lease", description = "Extend a review lease held by the caller (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lease renewed successfully"),
+        @ApiResponse(responseCode = "400", description = "No active lease held by the caller"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<ClaimLeaseResponse> renewReviewLease(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is renewing the review lease on claim {}", adminUserId, claimNumber);
+        
+        return ResponseEntity.ok(claimService.renewReviewLease(claimNumber, adminUserId));
+    }
+    
+    /**
+     * Give a leased claim back to the review queue
+     *
+     * @param claimNumber the claim number
+     * @param jwt the authenticated admin's JWT token
+     * @return no content
+     */
+    @DeleteMapping("/{claimNumber}/lease")
+    @Operation(summary = "Release review lease", description = "Return a claim leased by the caller to the review queue (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Lease released successfully"),
+        @ApiResponse(responseCode = "400", description = "No lease held by the caller"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<Void> releaseReviewLease(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is releasing the review lease on claim {}", adminUserId, claimNumber);
+        
+        claimService.releaseReviewLease(claimNumber, adminUserId);
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Move a claim to under review status
      *
@@ -96,7 +520,7 @@ public class AdminClaimController {
     @Operation(summary = "Move claim to under review", description = "Change claim status from SUBMITTED to UNDER_REVIEW (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Claim moved to under review successfully"),
-        @ApiResponse(responseCode = "400", description = "Invalid status transition"),
+        @ApiResponse(responseCode = "400", description = "Invalid status transition or claim leased to another reviewer"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required"),
         @ApiResponse(responseCode = "404", description = "Claim not found")
@@ -209,6 +633,118 @@ public class AdminClaimController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Move many claims to under review in one request
+     *
+     * @param request the claim numbers to move
+     * @param jwt the authenticated admin's JWT token
+     * @return the outcome for each claim
+     */
+    @PatchMapping("/bulk/under-review")
+    @Operation(summary = "Bulk move claims to under review", description = "Change many claims from SUBMITTED to UNDER_REVIEW (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk transition processed, see per-claim results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkClaimTransitionResponse> bulkMoveToUnderReview(
+            @Valid @RequestBody BulkClaimTransitionRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is moving {} claims to under review", adminUserId, request.getClaimNumbers().size());
+        
+        BulkClaimTransitionResponse response = claimService.bulkMoveToUnderReview(request.getClaimNumbers(), adminUserId);
+        log.info("Admin {} moved {} of {} claims to under review", adminUserId, response.getSucceeded(), response.getRequested());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Approve many claims in one request
+     *
+     * @param request the approvals, one per claim
+     * @param jwt the authenticated admin's JWT token
+     * @return the outcome for each claim
+     */
+    @PatchMapping("/bulk/approve")
+    @Operation(summary = "Bulk approve claims", description = "Approve many claims with their approved amounts (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk transition processed, see per-claim results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkClaimTransitionResponse> bulkApproveClaims(
+            @Valid @RequestBody BulkClaimApprovalRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is approving {} claims", adminUserId, request.getApprovals().size());
+        
+        BulkClaimTransitionResponse response = claimService.bulkApproveClaims(request.getApprovals(), adminUserId);
+        log.info("Admin {} approved {} of {} claims", adminUserId, response.getSucceeded(), response.getRequested());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Reject many claims in one request
+     *
+     * @param request the rejections, one per claim
+     * @param jwt the authenticated admin's JWT token
+     * @return the outcome for each claim
+     */
+    @PatchMapping("/bulk/reject")
+    @Operation(summary = "Bulk reject claims", description = "Reject many claims with their rejection reasons (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk transition processed, see per-claim results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkClaimTransitionResponse> bulkRejectClaims(
+            @Valid @RequestBody BulkClaimRejectionRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is rejecting {} claims", adminUserId, request.getRejections().size());
+        
+        BulkClaimTransitionResponse response = claimService.bulkRejectClaims(request.getRejections(), adminUserId);
+        log.info("Admin {} rejected {} of {} claims", adminUserId, response.getSucceeded(), response.getRequested());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Settle many claims in one request
+     *
+     * @param request the claim numbers to settle
+     * @param jwt the authenticated admin's JWT token
+     * @return the outcome for each claim
+     */
+    @PatchMapping("/bulk/settle")
+    @Operation(summary = "Bulk settle claims", description = "Mark many approved claims as settled/paid (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk transition processed, see per-claim results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkClaimTransitionResponse> bulkSettleClaims(
+            @Valid @RequestBody BulkClaimTransitionRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String adminUserId = jwt.getSubject();
+        log.info("Admin {} is settling {} claims", adminUserId, request.getClaimNumbers().size());
+        
+        BulkClaimTransitionResponse response = claimService.bulkSettleClaims(request.getClaimNumbers(), adminUserId);
+        log.info("Admin {} settled {} of {} claims", adminUserId, response.getSucceeded(), response.getRequested());
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Get claim statistics for admin dashboard
      *
@@ -1,9 +1,13 @@
 package com.claims.claims_service.controller;
 
 import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimIntakeResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
 import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.service.ClaimIntakeService;
 import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.IdempotentClaimSubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,12 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -34,11 +41,15 @@ import java.util.List;
 public class ClaimController {
     
     private final ClaimService claimService;
+    private final ClaimIntakeService claimIntakeService;
+    private final IdempotentClaimSubmissionService idempotentClaimSubmissionService;
     
     /**
      * Submit a new insurance claim
+     * Retries that send the same Idempotency-Key get the original response instead of a new claim.
      *
      * @param request the claim request containing claim details
+     * @param idempotencyKey optional client-generated key identifying this submission
      * @param jwt the authenticated user's JWT token
      * @return the created claim response
      */
@@ -48,24 +59,88 @@ public class ClaimController {
         @ApiResponse(responseCode = "201", description = "Claim submitted successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid claim data"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
-        @ApiResponse(responseCode = "404", description = "Policy not found")
+        @ApiResponse(responseCode = "404", description = "Policy not found"),
+        @ApiResponse(responseCode = "409", description = "Duplicate of an existing claim (when duplicate rejection is enabled)"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request"),
+        @ApiResponse(responseCode = "429", description = "Too many recent claims by this user or on this policy")
     })
     public ResponseEntity<ClaimResponse> submitClaim(
             @Valid @RequestBody ClaimRequest request,
+            @Parameter(description = "Client-generated key that makes retries of this submission safe")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal Jwt jwt) {
         
         String userId = jwt.getSubject();
         log.info("User {} is submitting a new claim for policy {}", userId, request.getPolicyNumber());
         
-        ClaimResponse response = claimService.submitClaim(request, userId);
+        ClaimResponse response = idempotencyKey == null
+                ? claimService.submitClaim(request, userId)
+                : idempotentClaimSubmissionService.submitClaim(request, userId, idempotencyKey);
         log.info("Claim {} submitted successfully by user {}", response.getClaimNumber(), userId);
         
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Submit a new insurance claim for asynchronous processing
+     * Intended for submission spikes; the claim is written shortly after the response
+     *
+     * @param request the claim request containing claim details
+     * @param jwt the authenticated user's JWT token
+     * @return the assigned claim number, with a Location header to poll for progress
+     */
+    @PostMapping("/intake")
+    @Operation(summary = "Submit a new claim asynchronously", description = "Validate and queue a claim, returning its claim number before it is persisted")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Claim accepted and queued"),
+        @ApiResponse(responseCode = "400", description = "Invalid claim data"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "503", description = "Intake queue is full, retry later")
+    })
+    public ResponseEntity<ClaimIntakeResponse> enqueueClaim(
+            @Valid @RequestBody ClaimRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String userId = jwt.getSubject();
+        log.info("User {} is queueing a new claim for policy {}", userId, request.getPolicyNumber());
+        
+        ClaimIntakeResponse response = claimIntakeService.enqueueClaim(request, userId);
+        
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/claims/intake/" + response.getClaimNumber()))
+                .body(response);
+    }
+    
+    /**
+     * Get the progress of a claim submitted asynchronously
+     *
+     * @param claimNumber the claim number returned on submission
+     * @param jwt the authenticated user's JWT token
+     * @return whether the claim is still queued, persisted or rejected
+     */
+    @GetMapping("/intake/{claimNumber}")
+    @Operation(summary = "Get claim intake status", description = "Check whether an asynchronously submitted claim has been persisted")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Intake status retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Claim does not belong to user"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<ClaimIntakeResponse> getIntakeStatus(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String userId = jwt.getSubject();
+        
+        return ResponseEntity.ok(claimIntakeService.getIntakeStatus(claimNumber, userId));
+    }
+    
     /**
      * Get all claims for the authenticated user
+     * Supports conditional requests: a matching If-None-Match returns 304 without loading the claims
      *
+     * @param ifNoneMatch optional ETag(s) from a previous response
      * @param jwt the authenticated user's JWT token
      * @return list of user's claims
      */
@@ -73,22 +148,54 @@ public class ClaimController {
     @Operation(summary = "Get my claims", description = "Retrieve all claims submitted by the authenticated user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Claims retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Claims unchanged since the given ETag"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
     })
-    public ResponseEntity<List<ClaimResponse>> getMyClaims(@AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<List<ClaimResponse>> getMyClaims(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt) {
         String userId = jwt.getSubject();
+        
+        ETag etag = new ETag(claimService.getMyClaimsVersion(userId), true);
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.formattedTag()).build();
+        }
         log.info("User {} is retrieving their claims", userId);
         
         List<ClaimResponse> claims = claimService.getMyMyClaims(userId);
         log.info("Retrieved {} claims for user {}", claims.size(), userId);
         
-        return ResponseEntity.ok(claims);
+        return ResponseEntity.ok().eTag(etag.formattedTag()).body(claims);
+    }
+    
+    /**
+     * Get lightweight summaries of all claims for the authenticated user
+     * Omits descriptions, rejection reasons and admin notes; use the claim number endpoint for details
+     *
+     * @param jwt the authenticated user's JWT token
+     * @return list of claim summaries
+     */
+    @GetMapping("/my-claims/summary")
+    @Operation(summary = "Get my claim summaries", description = "Retrieve summaries of all claims submitted by the authenticated user, without free-text fields")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claim summaries retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
+    })
+    public ResponseEntity<List<ClaimSummaryResponse>> getMyClaimSummaries(@AuthenticationPrincipal Jwt jwt) {
+        String userId = jwt.getSubject();
+        log.info("User {} is retrieving their claim summaries", userId);
+        
+        List<ClaimSummaryResponse> summaries = claimService.getMyClaimSummaries(userId);
+        log.info("Retrieved {} claim summaries for user {}", summaries.size(), userId);
+        
+        return ResponseEntity.ok(summaries);
     }
     
     /**
      * Get a specific claim by claim number
      *
      * @param claimNumber the unique claim number
+     * @param ifNoneMatch optional ETag from a previous response
      * @param jwt the authenticated user's JWT token
      * @return the claim details
      */
@@ -96,21 +203,30 @@ public class ClaimController {
     @Operation(summary = "Get claim by number", description = "Retrieve a specific claim by its claim number")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Claim found"),
+        @ApiResponse(responseCode = "304", description = "Claim unchanged since the given ETag"),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Claim belongs to another user"),
         @ApiResponse(responseCode = "404", description = "Claim not found")
     })
     public ResponseEntity<ClaimResponse> getClaimByNumber(
-            @Parameter(description = "Claim number (e.g., CLM-1728037200000-abc123)")
+            @Parameter(description = "Claim number (e.g., CLM-0K5Z3M8Q2R4T6)")
             @PathVariable String claimNumber,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal Jwt jwt) {
         
         String userId = jwt.getSubject();
+        
+        if (ifNoneMatch != null) {
+            ETag etag = new ETag(String.valueOf(claimService.getClaimVersion(claimNumber, userId)), true);
+            if (matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.formattedTag()).build();
+            }
+        }
         log.info("User {} is retrieving claim {}", userId, claimNumber);
         
         ClaimResponse response = claimService.getClaimByNumber(claimNumber, userId);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(new ETag(String.valueOf(response.getVersion()), true).formattedTag()).body(response);
     }
     
     /**
@@ -227,4 +343,13 @@ public class ClaimController {
         
         return ResponseEntity.ok(response);
     }
+    
+    // Weak comparison, as for GET; "*" matches any current representation
+    private static boolean matches(String ifNoneMatch, ETag current) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
 }
@@ -0,0 +1,166 @@
+package com.claims.claims_service.controller;
+
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import com.claims.claims_service.service.ClaimDocumentService;
+import com.claims.claims_service.util.RangeFileSender;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * REST Controller for claim documents (user-facing endpoints)
+ * Users can upload documents to their claims, list them and download them
+ */
+@RestController
+@RequestMapping("/api/claims/{claimNumber}/documents")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Claim Documents", description = "User claim document endpoints")
+@SecurityRequirement(name = "bearer-jwt")
+public class ClaimDocumentController {
+    
+    private final ClaimDocumentService claimDocumentService;
+    
+    /**
+     * Upload a document (photo, PDF, ...) for a claim
+     *
+     * @param claimNumber the claim number
+     * @param file the uploaded file
+     * @param jwt the authenticated user's JWT token
+     * @return the stored document metadata
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload claim document", description = "Upload a document for a claim owned by the authenticated user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Document uploaded successfully"),
+        @ApiResponse(responseCode = "400", description = "Empty document or claim belongs to another user"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "404", description = "Claim not found"),
+        @ApiResponse(responseCode = "503", description = "Too many uploads in progress")
+    })
+    public ResponseEntity<ClaimDocumentResponse> uploadDocument(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String userId = jwt.getSubject();
+        log.info("User {} is uploading a document for claim {}", userId, claimNumber);
+        
+        ClaimDocumentResponse response = claimDocumentService.uploadDocument(claimNumber, file, userId);
+        log.info("Document {} uploaded for claim {} by user {}", response.getId(), claimNumber, userId);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    /**
+     * List the documents of a claim
+     *
+     * @param claimNumber the claim number
+     * @param jwt the authenticated user's JWT token
+     * @return list of document metadata, newest first
+     */
+    @GetMapping
+    @Operation(summary = "List claim documents", description = "List the documents of a claim owned by the authenticated user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Documents retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public ResponseEntity<List<ClaimDocumentResponse>> getDocuments(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String userId = jwt.getSubject();
+        log.info("User {} is retrieving documents of claim {}", userId, claimNumber);
+        
+        List<ClaimDocumentResponse> documents = claimDocumentService.getDocuments(claimNumber, userId);
+        log.info("Retrieved {} documents of claim {} for user {}", documents.size(), claimNumber, userId);
+        
+        return ResponseEntity.ok(documents);
+    }
+    
+    /**
+     * Download a claim document
+     * Supports single HTTP byte ranges so large files can be resumed or previewed partially
+     *
+     * @param claimNumber the claim number
+     * @param documentId the document id
+     * @param jwt the authenticated user's JWT token
+     */
+    @GetMapping("/{documentId}")
+    @Operation(summary = "Download claim document", description = "Download a document of a claim owned by the authenticated user; supports Range requests")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Document content"),
+        @ApiResponse(responseCode = "206", description = "Requested range of the document content"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "404", description = "Claim or document not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    public void downloadDocument(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @Parameter(description = "Document id")
+            @PathVariable Long documentId,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        String userId = jwt.getSubject();
+        log.info("User {} is downloading document {} of claim {}", userId, documentId, claimNumber);
+        
+        ClaimDocumentService.DocumentFile document =
+                claimDocumentService.getDocumentFile(claimNumber, documentId, userId);
+        RangeFileSender.send(request, response,
+                document.path(), document.size(), document.contentType(), document.fileName());
+    }
+    
+    /**
+     * Delete a claim document
+     *
+     * @param claimNumber the claim number
+     * @param documentId the document id
+     * @param jwt the authenticated user's JWT token
+     * @return no content
+     */
+    @DeleteMapping("/{documentId}")
+    @Operation(summary = "Delete claim document", description = "Remove a document from a claim owned by the authenticated user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Document deleted successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token"),
+        @ApiResponse(responseCode = "404", description = "Claim or document not found")
+    })
+    public ResponseEntity<Void> deleteDocument(
+            @Parameter(description = "Claim number")
+            @PathVariable String claimNumber,
+            @Parameter(description = "Document id")
+            @PathVariable Long documentId,
+            @AuthenticationPrincipal Jwt jwt) {
+        
+        String userId = jwt.getSubject();
+        log.info("User {} is deleting document {} of claim {}", userId, documentId, claimNumber);
+        
+        claimDocumentService.deleteDocument(claimNumber, documentId, userId);
+        log.info("Document {} of claim {} deleted by user {}", documentId, claimNumber, userId);
+        
+        return ResponseEntity.noContent().build();
+    }
+}
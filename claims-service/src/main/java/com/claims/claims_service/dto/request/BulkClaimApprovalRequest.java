@@ -0,0 +1,20 @@
+package com.claims.claims_service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkClaimApprovalRequest {
+    
+    @NotEmpty(message = "At least one approval is required")
+    @Size(max = 500, message = "At most 500 claims can be processed per request")
+    private List<@Valid ClaimApprovalRequest> approvals;
+}
@@ -0,0 +1,20 @@
+package com.claims.claims_service.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkClaimTransitionRequest {
+    
+    @NotEmpty(message = "At least one claim number is required")
+    @Size(max = 500, message = "At most 500 claims can be processed per request")
+    private List<@NotBlank(message = "Claim number is required") String> claimNumbers;
+}
@@ -0,0 +1,28 @@
+package com.claims.claims_service.dto.response;
+
+import com.claims.claims_service.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk transition for one claim
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkClaimResult {
+    
+    private String claimNumber;
+    private boolean success;
+    private Claim.ClaimStatus status;
+    private String error;
+    
+    public static BulkClaimResult success(String claimNumber, Claim.ClaimStatus status) {
+        return new BulkClaimResult(claimNumber, true, status, null);
+    }
+    
+    public static BulkClaimResult failure(String claimNumber, String error) {
+        return new BulkClaimResult(claimNumber, false, null, error);
+    }
+}
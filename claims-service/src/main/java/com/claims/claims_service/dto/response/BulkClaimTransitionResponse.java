@@ -0,0 +1,18 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkClaimTransitionResponse {
+    
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkClaimResult> results;
+}
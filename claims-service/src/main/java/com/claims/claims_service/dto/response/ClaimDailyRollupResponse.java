@@ -0,0 +1,23 @@
+package com.claims.claims_service.dto.response;
+
+import com.claims.claims_service.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimDailyRollupResponse {
+    
+    private LocalDate rollupDate;
+    private Claim.PolicyType policyType;
+    private Claim.ClaimType claimType;
+    private Claim.ClaimStatus status;
+    private long claimCount;
+    private BigDecimal claimedAmount;
+    private BigDecimal approvedAmount;
+}
@@ -0,0 +1,22 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimDocumentResponse {
+    
+    private Long id;
+    private String claimNumber;
+    private String fileName;
+    private String contentType;
+    private long sizeBytes;
+    private String sha256;
+    private String uploadedBy;
+    private LocalDateTime uploadedAt;
+}
@@ -0,0 +1,26 @@
+package com.claims.claims_service.dto.response;
+
+import com.claims.claims_service.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a claim submitted through asynchronous intake
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimIntakeResponse {
+    
+    private String claimNumber;
+    private IntakeStatus intakeStatus;
+    private Claim.ClaimStatus claimStatus;  // set once the claim is persisted
+    private String message;
+    
+    public enum IntakeStatus {
+        QUEUED,
+        PERSISTED,
+        REJECTED
+    }
+}
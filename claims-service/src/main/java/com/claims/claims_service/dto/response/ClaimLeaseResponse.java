@@ -0,0 +1,17 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimLeaseResponse {
+    
+    private ClaimResponse claim;
+    private String leasedBy;
+    private LocalDateTime leaseExpiresAt;
+}
@@ -36,4 +36,5 @@ public class ClaimResponse {
     private Claim.Severity severity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,14 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimSearchHit {
+    
+    private double score;
+    private ClaimSummaryResponse claim;
+}
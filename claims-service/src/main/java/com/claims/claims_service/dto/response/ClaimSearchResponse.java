@@ -0,0 +1,20 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ranked full-text search results, best match first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimSearchResponse {
+    
+    private String query;
+    private int size;
+    private List<ClaimSearchHit> hits;
+}
@@ -0,0 +1,21 @@
+package com.claims.claims_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Claims whose description and incident location closely match a given claim, most similar first.
+ * Similarity is the estimated Jaccard similarity of the two texts' character shingles (0 to 1).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimSimilarityResponse {
+    
+    private String claimNumber;
+    private int size;
+    private List<ClaimSimilarityHit> hits;
+}
@@ -0,0 +1,33 @@
+package com.claims.claims_service.dto.response;
+
+import com.claims.claims_service.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight claim view for list screens.
+ * Leaves out the large text columns; fetch the full claim by number for details.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimSummaryResponse {
+    
+    private Long id;
+    private String claimNumber;
+    private String policyNumber;
+    private Claim.PolicyType policyType;
+    private Claim.ClaimType claimType;
+    private Claim.ClaimStatus status;
+    private Claim.Severity severity;
+    private LocalDate incidentDate;
+    private LocalDateTime submittedDate;
+    private BigDecimal claimedAmount;
+    private BigDecimal approvedAmount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.claims.claims_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published when a claim has stayed in a status past its SLA (Kafka message)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimSlaEscalationEvent {
+    private String claimNumber;
+    private String status;
+    private String userId;  // Keycloak user ID
+    private LocalDateTime statusSince;  // When the claim entered the status
+    private LocalDateTime deadline;
+    private LocalDateTime escalatedAt;
+}
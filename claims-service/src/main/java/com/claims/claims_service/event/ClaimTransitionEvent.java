@@ -0,0 +1,28 @@
+package com.claims.claims_service.event;
+
+import com.claims.claims_service.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-process application event raised whenever a claim is created or changes status.
+ * Components that keep derived state (counters, caches, indexes) in sync listen for it,
+ * usually with {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * The status pair is captured when the event is raised: the claim itself may move on
+ * again before the transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class ClaimTransitionEvent {
+    private final Claim claim;
+    private final Claim.ClaimStatus previousStatus;  // null for a new submission
+    private final Claim.ClaimStatus newStatus;
+    private final LocalDateTime occurredAt;
+    
+    public boolean isSubmission() {
+        return previousStatus == null;
+    }
+}
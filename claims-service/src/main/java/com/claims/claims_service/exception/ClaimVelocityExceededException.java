@@ -0,0 +1,7 @@
+package com.claims.claims_service.exception;
+
+public class ClaimVelocityExceededException extends RuntimeException {
+    public ClaimVelocityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.claims.claims_service.exception;
+
+public class DuplicateClaimException extends RuntimeException {
+    public DuplicateClaimException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.claims.claims_service.exception;
+
+public class IntakeCapacityExceededException extends RuntimeException {
+    public IntakeCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.claims.claims_service.kafka;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import com.claims.claims_service.model.ClaimOutboxEvent;
+import com.claims.claims_service.repository.ClaimOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes claim events (status changes and SLA escalations) to the outbox table.
+ * Must be called inside the transaction that changes the claim, so the event is stored
+ * if and only if the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimEventOutbox {
+    
+    private final ClaimOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(ClaimStatusChangedEvent event) {
+        outboxRepository.save(toOutboxEvent(event));
+        log.debug("Queued claim status change event in outbox: claimNumber={}, newStatus={}",
+                event.getClaimNumber(), event.getNewStatus());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(ClaimSlaEscalationEvent event) {
+        outboxRepository.save(toOutboxEvent(event.getClaimNumber(), ClaimOutboxEvent.EventType.SLA_ESCALATED, event));
+        log.debug("Queued claim SLA escalation event in outbox: claimNumber={}, status={}",
+                event.getClaimNumber(), event.getStatus());
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<ClaimStatusChangedEvent> events) {
+        outboxRepository.saveAll(events.stream().map(this::toOutboxEvent).toList());
+        log.debug("Queued {} claim status change events in outbox", events.size());
+    }
+    
+    private ClaimOutboxEvent toOutboxEvent(ClaimStatusChangedEvent event) {
+        return toOutboxEvent(event.getClaimNumber(), ClaimOutboxEvent.EventType.STATUS_CHANGED, event);
+    }
+    
+    private ClaimOutboxEvent toOutboxEvent(String claimNumber, ClaimOutboxEvent.EventType eventType, Object event) {
+        ClaimOutboxEvent outboxEvent = new ClaimOutboxEvent();
+        outboxEvent.setClaimNumber(claimNumber);
+        outboxEvent.setEventType(eventType);
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize claim event for " + claimNumber, e);
+        }
+        return outboxEvent;
+    }
+}
@@ -1,14 +1,33 @@
 package com.claims.claims_service.kafka;
 
 import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Kafka producer service to publish claim status change events
+ *
+ * Sends are asynchronous: batching, compression and idempotence are configured on the producer,
+ * and completion callbacks record per-send latency and failures. The number of unacknowledged
+ * sends is bounded; when the broker falls behind, callers wait briefly for a free slot and are
+ * then rejected instead of piling up records in memory. Other claim event producers send through
+ * {@link #send} so they share that bound and report the same metrics, tagged with their topic.
  */
 @Service
 @Slf4j
@@ -16,24 +35,113 @@ import org.springframework.stereotype.Service;
 public class ClaimEventPublisher {
 
     private final KafkaTemplate<String, ClaimStatusChangedEvent> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${kafka.topic.claim-status-changed}")
     private String topic;
 
+    @Value("${claims.kafka.max-in-flight:10000}")
+    private int maxInFlight;
+
+    @Value("${claims.kafka.enqueue-timeout-ms:100}")
+    private long enqueueTimeoutMs;
+
+    private final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+    private Semaphore inFlight;
+
+    @PostConstruct
+    void initMetrics() {
+        inFlight = new Semaphore(maxInFlight);
+        Gauge.builder("claims.kafka.publish.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("Sends awaiting broker acknowledgement, across topics")
+                .register(meterRegistry);
+        metersFor(topic);
+    }
+
     /**
      * Publish a claim status changed event to Kafka
+     *
+     * @return a future completed once the broker acknowledged (or rejected) the event
      */
-    public void publishClaimStatusChanged(ClaimStatusChangedEvent event) {
+    public CompletableFuture<SendResult<String, ClaimStatusChangedEvent>> publishClaimStatusChanged(ClaimStatusChangedEvent event) {
+        log.debug("Publishing claim status change event: claimNumber={}, oldStatus={}, newStatus={}",
+                event.getClaimNumber(), event.getOldStatus(), event.getNewStatus());
+        return send(kafkaTemplate, topic, event.getClaimNumber(), event);
+    }
+
+    /**
+     * Send a claim event keyed by claim number, within the shared in-flight bound
+     *
+     * @return a future completed once the broker acknowledged (or rejected) the event
+     */
+    public <E> CompletableFuture<SendResult<String, E>> send(KafkaTemplate<String, E> template, String eventTopic,
+                                                             String claimNumber, E event) {
+        TopicMeters meters = metersFor(eventTopic);
+        if (!acquireSlot()) {
+            meters.rejected().increment();
+            log.warn("Kafka producer backlog full ({} in flight), rejecting {} event for claim: {}",
+                    maxInFlight, eventTopic, claimNumber);
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many claim events awaiting acknowledgement"));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, E>> future;
         try {
-            log.info("Publishing claim status change event: claimNumber={}, oldStatus={}, newStatus={}",
-                    event.getClaimNumber(), event.getOldStatus(), event.getNewStatus());
-            
-            kafkaTemplate.send(topic, event.getClaimNumber(), event);
-            
-            log.info("Successfully published event for claim: {}", event.getClaimNumber());
+            future = template.send(eventTopic, claimNumber, event);
         } catch (Exception e) {
-            log.error("Failed to publish claim status change event for claim: {}",
-                    event.getClaimNumber(), e);
+            onComplete(eventTopic, meters, claimNumber, null, e, start);
+            return CompletableFuture.failedFuture(e);
         }
+        return future.whenComplete((result, ex) -> onComplete(eventTopic, meters, claimNumber, result, ex, start));
+    }
+
+    private boolean acquireSlot() {
+        try {
+            return inFlight.tryAcquire(enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void onComplete(String eventTopic, TopicMeters meters, String claimNumber, SendResult<String, ?> result,
+                            Throwable ex, long start) {
+        inFlight.release();
+        long elapsed = System.nanoTime() - start;
+        if (ex == null) {
+            meters.success().record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("Successfully published {} event for claim: {} (partition={}, offset={})",
+                    eventTopic, claimNumber,
+                    result.getRecordMetadata().partition(),
+                    result.getRecordMetadata().offset());
+        } else {
+            meters.failure().record(elapsed, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("claims.kafka.publish.failures",
+                    "topic", eventTopic, "exception", ex.getClass().getSimpleName()).increment();
+            log.error("Failed to publish {} event for claim: {}", eventTopic, claimNumber, ex);
+        }
+    }
+
+    private TopicMeters metersFor(String eventTopic) {
+        return topicMeters.computeIfAbsent(eventTopic, t -> new TopicMeters(
+                Timer.builder("claims.kafka.publish")
+                        .description("Time from send to broker acknowledgement")
+                        .tag("topic", t)
+                        .tag("outcome", "success")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("claims.kafka.publish")
+                        .description("Time from send to broker acknowledgement")
+                        .tag("topic", t)
+                        .tag("outcome", "failure")
+                        .register(meterRegistry),
+                Counter.builder("claims.kafka.publish.rejected")
+                        .description("Sends rejected because too many were awaiting acknowledgement")
+                        .tag("topic", t)
+                        .register(meterRegistry)));
+    }
+
+    private record TopicMeters(Timer success, Timer failure, Counter rejected) {
     }
 }
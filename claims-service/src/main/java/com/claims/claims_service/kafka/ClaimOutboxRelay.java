@@ -0,0 +1,226 @@
+package com.claims.claims_service.kafka;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import com.claims.claims_service.model.ClaimOutboxEvent;
+import com.claims.claims_service.repository.ClaimOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background relay that publishes due outbox rows to Kafka in batches, each to its event type's topic.
+ *
+ * Each run claims a batch in a short transaction (pushing the rows' next attempt past the send
+ * timeout, so other relays skip them), sends it with no transaction or row locks held, and
+ * records the outcome in a second short transaction. A row is marked sent only after the broker
+ * acknowledged it (at-least-once delivery); a failed row is retried with exponential backoff and
+ * parked as FAILED after the maximum number of attempts, so it cannot hold up the rows behind it.
+ *
+ * The relay runs on a thread of its own rather than the shared scheduler, so a slow broker cannot
+ * hold up the maintenance jobs and a long maintenance job cannot hold up event delivery.
+ */
+@Component
+@Slf4j
+public class ClaimOutboxRelay {
+    
+    // Extra time a claimed row is held beyond the send timeout before another relay may retry it
+    private static final long CLAIM_MARGIN_MS = 5000;
+    
+    private final ClaimOutboxRepository outboxRepository;
+    private final ClaimEventPublisher claimEventPublisher;
+    private final ClaimSlaEscalationPublisher escalationPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${claims.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${claims.outbox.send-timeout-ms:35000}")
+    private long sendTimeoutMs;
+    
+    @Value("${claims.outbox.max-attempts:10}")
+    private int maxAttempts;
+    
+    @Value("${claims.outbox.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+    
+    @Value("${claims.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+    
+    @Value("${claims.outbox.retention-hours:24}")
+    private long retentionHours;
+    
+    @Value("${claims.outbox.poll-interval-ms:500}")
+    private long pollIntervalMs;
+    
+    private ScheduledExecutorService relay;
+    
+    public ClaimOutboxRelay(ClaimOutboxRepository outboxRepository,
+                            ClaimEventPublisher claimEventPublisher,
+                            ClaimSlaEscalationPublisher escalationPublisher,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.claimEventPublisher = claimEventPublisher;
+        this.escalationPublisher = escalationPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PostConstruct
+    void startRelay() {
+        relay = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "claim-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relay.scheduleWithFixedDelay(() -> {
+            try {
+                relayPendingEvents();
+            } catch (RuntimeException e) {
+                // A failed run must not cancel the ones after it
+                log.error("Outbox relay run failed, retrying in {} ms", pollIntervalMs, e);
+            }
+        }, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stopRelay() {
+        relay.shutdownNow();
+    }
+    
+    public void relayPendingEvents() {
+        List<ClaimOutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        
+        // Hand the whole batch to the producer first so it can be sent in as few requests as possible
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (ClaimOutboxEvent row : batch) {
+            sends.add(send(row));
+        }
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        Map<Long, String> failures = new HashMap<>();
+        int settled = 0;
+        for (; settled < batch.size(); settled++) {
+            Long id = batch.get(settled).getId();
+            try {
+                sends.get(settled).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                failures.put(id, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (TimeoutException e) {
+                failures.put(id, "Timed out waiting for broker acknowledgement");
+            } catch (InterruptedException e) {
+                // The rest keep their claim and are retried once it runs out
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        
+        List<ClaimOutboxEvent> outcomes = batch.subList(0, settled);
+        transactionTemplate.executeWithoutResult(status -> recordOutcome(outcomes, failures));
+        int sent = outcomes.size() - failures.size();
+        if (sent < batch.size()) {
+            log.warn("Relayed {} of {} outbox events, the rest will be retried", sent, batch.size());
+        } else {
+            log.debug("Relayed {} outbox events", sent);
+        }
+    }
+    
+    @Scheduled(cron = "${claims.outbox.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeSentEvents() {
+        int purged = outboxRepository.deleteByStatusAndSentAtBefore(
+                ClaimOutboxEvent.OutboxStatus.SENT, LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            log.info("Purged {} relayed outbox events", purged);
+        }
+    }
+    
+    private List<ClaimOutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimOutboxEvent> due = outboxRepository.findDueBatchForUpdate(
+                ClaimOutboxEvent.OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        LocalDateTime claimedUntil = now.plus(Duration.ofMillis(sendTimeoutMs + CLAIM_MARGIN_MS));
+        List<ClaimOutboxEvent> claimed = new ArrayList<>(due.size());
+        for (ClaimOutboxEvent row : due) {
+            if (row.getAttempts() >= maxAttempts) {
+                // Attempts ran out while claimed by a relay that never reported back
+                row.markFailed("Send outcome unknown after " + row.getAttempts() + " attempts", now, maxAttempts);
+                logGaveUp(row);
+            } else {
+                row.claim(claimedUntil);
+                claimed.add(row);
+            }
+        }
+        return claimed;
+    }
+    
+    private void recordOutcome(List<ClaimOutboxEvent> batch, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = batch.stream().map(ClaimOutboxEvent::getId).toList();
+        for (ClaimOutboxEvent row : outboxRepository.findAllById(ids)) {
+            if (row.getStatus() != ClaimOutboxEvent.OutboxStatus.PENDING) {
+                continue;
+            }
+            String error = failures.get(row.getId());
+            if (error == null) {
+                row.markSent(now);
+            } else {
+                row.markFailed(error, now.plus(backoff(row.getAttempts())), maxAttempts);
+                if (row.getStatus() == ClaimOutboxEvent.OutboxStatus.FAILED) {
+                    logGaveUp(row);
+                }
+            }
+        }
+    }
+    
+    // initial, 2x initial, 4x initial, ... capped at the maximum
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        return Duration.ofMillis(Math.min(maxBackoffMs, initialBackoffMs << doublings));
+    }
+    
+    private void logGaveUp(ClaimOutboxEvent row) {
+        log.error("Giving up on outbox event {} for claim {} after {} attempts: {}",
+                row.getId(), row.getClaimNumber(), row.getAttempts(), row.getLastError());
+    }
+    
+    private CompletableFuture<?> send(ClaimOutboxEvent row) {
+        try {
+            return switch (row.getEventType()) {
+                case STATUS_CHANGED -> claimEventPublisher.publishClaimStatusChanged(
+                        objectMapper.readValue(row.getPayload(), ClaimStatusChangedEvent.class));
+                case SLA_ESCALATED -> escalationPublisher.publish(
+                        objectMapper.readValue(row.getPayload(), ClaimSlaEscalationEvent.class));
+            };
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
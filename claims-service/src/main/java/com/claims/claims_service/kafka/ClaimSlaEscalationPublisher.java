@@ -0,0 +1,41 @@
+package com.claims.claims_service.kafka;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Kafka producer for claim SLA escalations.
+ *
+ * Escalations go to their own topic so status-change consumers (user notifications) never see
+ * them. They are written to the outbox with the breach mark and sent by {@link ClaimOutboxRelay},
+ * through {@link ClaimEventPublisher#send} so they share its in-flight bound and send metrics.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ClaimSlaEscalationPublisher {
+    
+    private final KafkaTemplate<String, ClaimSlaEscalationEvent> kafkaTemplate;
+    private final ClaimEventPublisher claimEventPublisher;
+    
+    @Value("${kafka.topic.claim-sla-escalated}")
+    private String topic;
+    
+    /**
+     * Publish an escalation to Kafka
+     *
+     * @return a future completed once the broker acknowledged (or rejected) the event
+     */
+    public CompletableFuture<SendResult<String, ClaimSlaEscalationEvent>> publish(ClaimSlaEscalationEvent event) {
+        log.debug("Publishing SLA escalation: claimNumber={}, status={}, deadline={}",
+                event.getClaimNumber(), event.getStatus(), event.getDeadline());
+        return claimEventPublisher.send(kafkaTemplate, topic, event.getClaimNumber(), event);
+    }
+}
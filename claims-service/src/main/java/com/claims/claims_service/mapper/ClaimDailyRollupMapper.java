@@ -0,0 +1,15 @@
+package com.claims.claims_service.mapper;
+
+import com.claims.claims_service.dto.response.ClaimDailyRollupResponse;
+import com.claims.claims_service.model.ClaimDailyRollup;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ClaimDailyRollupMapper {
+    
+    ClaimDailyRollupResponse toResponse(ClaimDailyRollup rollup);
+    
+    List<ClaimDailyRollupResponse> toResponseList(List<ClaimDailyRollup> rollups);
+}
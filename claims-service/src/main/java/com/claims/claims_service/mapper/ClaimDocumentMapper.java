@@ -0,0 +1,13 @@
+package com.claims.claims_service.mapper;
+
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import com.claims.claims_service.model.ClaimDocument;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ClaimDocumentMapper {
+    
+    @Mapping(target = "uploadedAt", source = "createdAt")
+    ClaimDocumentResponse toResponse(ClaimDocument document);
+}
@@ -20,8 +20,11 @@ public interface ClaimMapper {
     @Mapping(target = "rejectionReason", ignore = true)
     @Mapping(target = "adminNotes", ignore = true)
     @Mapping(target = "reviewedBy", ignore = true)
+    @Mapping(target = "reviewLeaseExpiresAt", ignore = true)
+    @Mapping(target = "slaEscalatedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Claim toEntity(ClaimRequest request);
     
     ClaimResponse toResponse(Claim claim);
@@ -39,7 +42,10 @@ public interface ClaimMapper {
     @Mapping(target = "rejectionReason", ignore = true)
     @Mapping(target = "adminNotes", ignore = true)
     @Mapping(target = "reviewedBy", ignore = true)
+    @Mapping(target = "reviewLeaseExpiresAt", ignore = true)
+    @Mapping(target = "slaEscalatedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromRequest(ClaimRequest request, @MappingTarget Claim claim);
 }
@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
 @Setter
 public abstract class BaseEntity {
     
+    // Pooled sequence (one per entity, allocation size 50) rather than IDENTITY so that
+    // multi-row inserts, such as intake group commits, can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
     @CreatedDate
@@ -11,7 +11,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+    @Index(name = "idx_claims_submitted_id", columnList = "submittedDate, id"),
+    @Index(name = "idx_claims_status_submitted_id", columnList = "status, submittedDate, id"),
+    @Index(name = "idx_claims_user_status", columnList = "keycloakUserId, status"),
+    @Index(name = "idx_claims_user_policy_type", columnList = "keycloakUserId, policyType"),
+    @Index(name = "idx_claims_user_version", columnList = "keycloakUserId, version"),
+    @Index(name = "idx_claims_policy_user", columnList = "policyNumber, keycloakUserId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,9 +78,20 @@ public class Claim extends BaseEntity {
     
     private String reviewedBy;
     
+    // Set while a SUBMITTED claim is leased to the reviewer in reviewedBy through the review queue
+    private LocalDateTime reviewLeaseExpiresAt;
+    
+    // When the claim last breached its status SLA; see ClaimSlaMonitor
+    private LocalDateTime slaEscalatedAt;
+    
     @Enumerated(EnumType.STRING)
     private Severity severity;
     
+    // Optimistic lock; guarded status updates in ClaimRepository bump it explicitly
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     public enum ClaimStatus {
         SUBMITTED,
         UNDER_REVIEW,
@@ -0,0 +1,49 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated claim counts and amounts per submission day, policy type, claim type and status.
+ * Kept current incrementally as claims are submitted and transitioned, and rebuilt from the
+ * claims table on a schedule. Approved amounts are only summed for APPROVED and SETTLED claims.
+ */
+@Entity
+@Table(name = "claim_daily_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_claim_daily_rollups_key",
+                      columnNames = {"rollupDate", "policyType", "claimType", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimDailyRollup extends BaseEntity {
+    
+    @Column(nullable = false)
+    private LocalDate rollupDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Claim.PolicyType policyType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Claim.ClaimType claimType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Claim.ClaimStatus status;
+    
+    @Column(nullable = false)
+    private long claimCount;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal claimedAmount;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal approvedAmount;
+}
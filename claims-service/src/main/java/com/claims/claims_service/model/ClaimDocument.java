@@ -0,0 +1,40 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A document (photo, PDF, ...) uploaded for a claim.
+ * The content is stored once per distinct hash as a {@link DocumentBlob}; this row links it to
+ * the claim and holds the per-upload metadata.
+ */
+@Entity
+@Table(name = "claim_documents", indexes = {
+    @Index(name = "idx_claim_documents_claim_number", columnList = "claimNumber")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimDocument extends BaseEntity {
+    
+    @Column(nullable = false)
+    private String claimNumber;
+    
+    @Column(nullable = false, length = 255)
+    private String fileName;
+    
+    @Column(nullable = false)
+    private String contentType;
+    
+    @Column(nullable = false)
+    private long sizeBytes;
+    
+    // Hex-encoded SHA-256 of the content; references the DocumentBlob holding the file
+    @Column(nullable = false, length = 64)
+    private String sha256;
+    
+    @Column(nullable = false)
+    private String uploadedBy;
+}
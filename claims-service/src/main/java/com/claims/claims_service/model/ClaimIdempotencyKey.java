@@ -0,0 +1,40 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A client-supplied Idempotency-Key and the claim its first submission created.
+ * The stored response is returned for replays of the same key, so retried submissions
+ * neither create a second claim nor read the claims table.
+ */
+@Entity
+@Table(name = "claim_idempotency_keys", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_claim_idempotency_keys_user_key", columnNames = {"keycloakUserId", "idempotencyKey"})
+}, indexes = {
+    @Index(name = "idx_claim_idempotency_keys_created", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimIdempotencyKey extends BaseEntity {
+    
+    @Column(nullable = false)
+    private String keycloakUserId;
+    
+    @Column(nullable = false)
+    private String idempotencyKey;
+    
+    // SHA-256 of the request body, to detect a key reused for a different request
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+    
+    @Column(nullable = false)
+    private String claimNumber;
+    
+    @Lob
+    @Column(nullable = false)
+    private String responseBody;
+}
@@ -0,0 +1,28 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named row that instances lock to coordinate a background job across the cluster.
+ * Holding it exclusively runs the job; work that must not interleave with the job holds it shared.
+ */
+@Entity
+@Table(name = "claim_job_locks", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_claim_job_locks_name", columnNames = {"name"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimJobLock extends BaseEntity {
+    
+    @Column(nullable = false, length = 64)
+    private String name;
+    
+    // When the job last completed, on any instance
+    private LocalDateTime lastRunAt;
+}
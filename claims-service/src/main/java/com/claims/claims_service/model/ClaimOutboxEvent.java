@@ -0,0 +1,114 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Claim event waiting to be relayed to Kafka (transactional outbox): a status change, or an SLA
+ * escalation, which goes to its own topic.
+ * Rows are written in the same transaction as the claim change and published afterwards
+ * by {@link com.claims.claims_service.kafka.ClaimOutboxRelay}. A row is due once
+ * {@code nextAttemptAt} has passed; failed sends push it back with exponential backoff, and a
+ * row that keeps failing is parked as FAILED instead of being retried forever.
+ */
+@Entity
+@Table(name = "claim_outbox", indexes = {
+    @Index(name = "idx_claim_outbox_status_next_attempt", columnList = "status, nextAttemptAt, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "claim_outbox_seq")
+    @SequenceGenerator(name = "claim_outbox_seq", sequenceName = "claim_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String claimNumber;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventType eventType;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    // Not picked up by the relay before this time: backoff after a failure, or the claim on a
+    // row whose send is in progress (so a relay that dies mid-send leaves it to be retried)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime sentAt;
+    
+    public enum EventType {
+        STATUS_CHANGED,
+        SLA_ESCALATED
+    }
+    
+    public enum OutboxStatus {
+        PENDING,
+        SENT,
+        // Gave up after the maximum number of attempts; left for an operator to inspect
+        FAILED
+    }
+    
+    /**
+     * Claim the row for one send attempt, holding it until {@code claimedUntil}
+     */
+    public void claim(LocalDateTime claimedUntil) {
+        this.attempts++;
+        this.nextAttemptAt = claimedUntil;
+    }
+    
+    public void markSent(LocalDateTime sentAt) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+    
+    /**
+     * Record a failed attempt: retry at {@code retryAt}, or give up once {@code maxAttempts} is reached
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.nextAttemptAt = retryAt;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (status == null) {
+            status = OutboxStatus.PENDING;
+        }
+        if (eventType == null) {
+            eventType = EventType.STATUS_CHANGED;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.claims.claims_service.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Content-addressed document file, stored once per distinct SHA-256.
+ * {@link ClaimDocument} rows reference blobs by hash; refCount tracks how many do, and blobs
+ * that stay unreferenced past a grace period are garbage-collected.
+ */
+@Entity
+@Table(name = "document_blobs", indexes = {
+    @Index(name = "idx_document_blobs_ref_count_updated", columnList = "refCount, updatedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class DocumentBlob extends BaseEntity {
+    
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+    
+    @Column(nullable = false)
+    private long sizeBytes;
+    
+    @Column(nullable = false)
+    private int refCount;
+}
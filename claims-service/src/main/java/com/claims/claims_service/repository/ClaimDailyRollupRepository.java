@@ -0,0 +1,45 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.model.ClaimDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ClaimDailyRollupRepository extends JpaRepository<ClaimDailyRollup, Long> {
+    
+    // Served by the unique key; callers insert the row when no row was updated
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ClaimDailyRollup r SET r.claimCount = r.claimCount + :count, " +
+           "r.claimedAmount = r.claimedAmount + :claimedAmount, " +
+           "r.approvedAmount = r.approvedAmount + :approvedAmount, r.updatedAt = :now " +
+           "WHERE r.rollupDate = :rollupDate AND r.policyType = :policyType " +
+           "AND r.claimType = :claimType AND r.status = :status")
+    int addToRollup(@Param("rollupDate") LocalDate rollupDate,
+                    @Param("policyType") Claim.PolicyType policyType,
+                    @Param("claimType") Claim.ClaimType claimType,
+                    @Param("status") Claim.ClaimStatus status,
+                    @Param("count") long count,
+                    @Param("claimedAmount") BigDecimal claimedAmount,
+                    @Param("approvedAmount") BigDecimal approvedAmount,
+                    @Param("now") LocalDateTime now);
+    
+    @Query("SELECT r FROM ClaimDailyRollup r WHERE r.rollupDate BETWEEN :from AND :to " +
+           "AND (:policyType IS NULL OR r.policyType = :policyType) " +
+           "AND (:claimType IS NULL OR r.claimType = :claimType) " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "ORDER BY r.rollupDate, r.policyType, r.claimType, r.status")
+    List<ClaimDailyRollup> findInRange(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("policyType") Claim.PolicyType policyType,
+                                       @Param("claimType") Claim.ClaimType claimType,
+                                       @Param("status") Claim.ClaimStatus status);
+}
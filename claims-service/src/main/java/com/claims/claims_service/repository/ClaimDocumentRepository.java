@@ -0,0 +1,16 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.ClaimDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ClaimDocumentRepository extends JpaRepository<ClaimDocument, Long> {
+    
+    List<ClaimDocument> findByClaimNumberOrderByIdDesc(String claimNumber);
+    
+    Optional<ClaimDocument> findByIdAndClaimNumber(Long id, String claimNumber);
+}
@@ -0,0 +1,21 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.ClaimIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ClaimIdempotencyKeyRepository extends JpaRepository<ClaimIdempotencyKey, Long> {
+    
+    Optional<ClaimIdempotencyKey> findByKeycloakUserIdAndIdempotencyKey(String keycloakUserId, String idempotencyKey);
+    
+    @Modifying
+    @Query("DELETE FROM ClaimIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
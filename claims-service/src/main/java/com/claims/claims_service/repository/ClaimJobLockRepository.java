@@ -0,0 +1,35 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.ClaimJobLock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ClaimJobLockRepository extends JpaRepository<ClaimJobLock, Long> {
+    
+    boolean existsByName(String name);
+    
+    // Waits for the job lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM ClaimJobLock l WHERE l.name = :name")
+    Optional<ClaimJobLock> lockByName(@Param("name") String name);
+    
+    // Empty when another instance holds the lock, where the database supports SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM ClaimJobLock l WHERE l.name = :name")
+    Optional<ClaimJobLock> tryLockByName(@Param("name") String name);
+    
+    // Shared with other holders; waits while the job holds the lock
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM ClaimJobLock l WHERE l.name = :name")
+    Optional<ClaimJobLock> lockSharedByName(@Param("name") String name);
+}
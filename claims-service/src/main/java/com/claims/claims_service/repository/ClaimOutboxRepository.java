@@ -0,0 +1,39 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.ClaimOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ClaimOutboxRepository extends JpaRepository<ClaimOutboxEvent, Long> {
+    
+    /**
+     * Lock the oldest events that are due. Rows already locked by another relay are skipped
+     * where the database supports SKIP LOCKED.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ClaimOutboxEvent o WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.nextAttemptAt, o.id")
+    List<ClaimOutboxEvent> findDueBatchForUpdate(@Param("status") ClaimOutboxEvent.OutboxStatus status,
+                                                 @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM ClaimOutboxEvent o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") ClaimOutboxEvent.OutboxStatus status,
+                                      @Param("before") LocalDateTime before);
+    
+    long countByStatus(ClaimOutboxEvent.OutboxStatus status);
+}
@@ -1,21 +1,47 @@
 package com.claims.claims_service.repository;
 
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
 import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.projection.ClaimFingerprint;
+import com.claims.claims_service.repository.projection.ClaimListStamp;
+import com.claims.claims_service.repository.projection.ClaimRollupRow;
+import com.claims.claims_service.repository.projection.ClaimSlaRow;
+import com.claims.claims_service.repository.projection.ClaimStatusCount;
+import com.claims.claims_service.repository.projection.ClaimVelocityRow;
+import com.claims.claims_service.repository.projection.ClaimVersionStamp;
+import com.claims.claims_service.repository.projection.ReviewCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClaimRepository extends JpaRepository<Claim, Long> {
     
     Optional<Claim> findByClaimNumber(String claimNumber);
     
+    List<Claim> findByClaimNumberIn(Collection<String> claimNumbers);
+    
     List<Claim> findByKeycloakUserId(String keycloakUserId);
     
     List<Claim> findByPolicyNumber(String policyNumber);
     
+    List<Claim> findByPolicyNumberAndKeycloakUserId(String policyNumber, String keycloakUserId);
+    
     List<Claim> findByStatus(Claim.ClaimStatus status);
     
     List<Claim> findByKeycloakUserIdAndStatus(String keycloakUserId, Claim.ClaimStatus status);
@@ -27,4 +53,238 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     long countByStatus(Claim.ClaimStatus status);
     
     long countByKeycloakUserId(String keycloakUserId);
+    
+    long countByKeycloakUserIdAndStatus(String keycloakUserId, Claim.ClaimStatus status);
+    
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM Claim c GROUP BY c.status")
+    List<ClaimStatusCount> countGroupedByStatus();
+    
+    // Change stamps for conditional GETs, answered from indexes without loading claims
+    
+    @Query("SELECT COUNT(c) AS total, COALESCE(SUM(c.version), 0) AS versionSum " +
+           "FROM Claim c WHERE c.keycloakUserId = :keycloakUserId")
+    ClaimListStamp findListStampByKeycloakUserId(@Param("keycloakUserId") String keycloakUserId);
+    
+    @Query("SELECT c.keycloakUserId AS keycloakUserId, c.version AS version FROM Claim c WHERE c.claimNumber = :claimNumber")
+    Optional<ClaimVersionStamp> findVersionStampByClaimNumber(@Param("claimNumber") String claimNumber);
+    
+    @Query("SELECT CAST(c.submittedDate AS LocalDate) AS rollupDate, c.policyType AS policyType, " +
+           "c.claimType AS claimType, c.status AS status, COUNT(c) AS claimCount, " +
+           "SUM(c.claimedAmount) AS claimedAmount, COALESCE(SUM(c.approvedAmount), 0) AS approvedAmount " +
+           "FROM Claim c GROUP BY CAST(c.submittedDate AS LocalDate), c.policyType, c.claimType, c.status")
+    List<ClaimRollupRow> aggregateDailyRollups();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.claimNumber AS claimNumber, c.policyNumber AS policyNumber, c.incidentDate AS incidentDate, " +
+           "c.claimType AS claimType, c.claimedAmount AS claimedAmount FROM Claim c WHERE c.status <> :excludedStatus")
+    Stream<ClaimFingerprint> streamFingerprints(@Param("excludedStatus") Claim.ClaimStatus excludedStatus);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.claimNumber AS claimNumber, c.keycloakUserId AS keycloakUserId, c.policyNumber AS policyNumber, c.submittedDate AS submittedDate " +
+           "FROM Claim c WHERE c.submittedDate >= :since")
+    Stream<ClaimVelocityRow> streamVelocityRowsSince(@Param("since") LocalDateTime since);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.claimNumber AS claimNumber, c.keycloakUserId AS keycloakUserId, c.status AS status, " +
+           "c.submittedDate AS submittedDate, c.updatedAt AS updatedAt, c.slaEscalatedAt AS slaEscalatedAt " +
+           "FROM Claim c WHERE c.status IN :statuses")
+    Stream<ClaimSlaRow> streamSlaRows(@Param("statuses") Collection<Claim.ClaimStatus> statuses);
+    
+    // Guarded status transitions. Each is a single UPDATE whose WHERE clause carries the expected
+    // current status, so the affected-row count (0 or 1) decides whether the transition won.
+    // Callers pass both statuses; the transition rules themselves live in ClaimServiceImpl.
+    // Bulk updates bypass auditing and versioning, so both are maintained here.
+    
+    // Also takes over an expired review lease (or the caller's own) and clears it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :newStatus, c.reviewedBy = :reviewedBy, c.reviewLeaseExpiresAt = NULL, " +
+           "c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :expectedStatus " +
+           "AND (c.reviewLeaseExpiresAt IS NULL OR c.reviewLeaseExpiresAt < :now OR c.reviewedBy = :reviewedBy)")
+    int markUnderReview(@Param("claimNumber") String claimNumber,
+                        @Param("expectedStatus") Claim.ClaimStatus expectedStatus,
+                        @Param("newStatus") Claim.ClaimStatus newStatus,
+                        @Param("reviewedBy") String reviewedBy,
+                        @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :newStatus, " +
+           "c.approvedAmount = :approvedAmount, c.approvedDate = :today, c.reviewedBy = :reviewedBy, " +
+           "c.adminNotes = COALESCE(:adminNotes, c.adminNotes), c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :expectedStatus")
+    int markApproved(@Param("claimNumber") String claimNumber,
+                     @Param("expectedStatus") Claim.ClaimStatus expectedStatus,
+                     @Param("newStatus") Claim.ClaimStatus newStatus,
+                     @Param("approvedAmount") BigDecimal approvedAmount,
+                     @Param("adminNotes") String adminNotes,
+                     @Param("reviewedBy") String reviewedBy,
+                     @Param("today") LocalDate today,
+                     @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :newStatus, " +
+           "c.rejectionReason = :rejectionReason, c.rejectedDate = :today, c.reviewedBy = :reviewedBy, " +
+           "c.adminNotes = COALESCE(:adminNotes, c.adminNotes), c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :expectedStatus")
+    int markRejected(@Param("claimNumber") String claimNumber,
+                     @Param("expectedStatus") Claim.ClaimStatus expectedStatus,
+                     @Param("newStatus") Claim.ClaimStatus newStatus,
+                     @Param("rejectionReason") String rejectionReason,
+                     @Param("adminNotes") String adminNotes,
+                     @Param("reviewedBy") String reviewedBy,
+                     @Param("today") LocalDate today,
+                     @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :newStatus, " +
+           "c.settledDate = :today, c.reviewedBy = :reviewedBy, c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :expectedStatus")
+    int markSettled(@Param("claimNumber") String claimNumber,
+                    @Param("expectedStatus") Claim.ClaimStatus expectedStatus,
+                    @Param("newStatus") Claim.ClaimStatus newStatus,
+                    @Param("reviewedBy") String reviewedBy,
+                    @Param("today") LocalDate today,
+                    @Param("now") LocalDateTime now);
+    
+    // Guarded on the version the caller read, so the caller can build the result from that read
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :newStatus, " +
+           "c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.keycloakUserId = :keycloakUserId " +
+           "AND c.status = :expectedStatus AND c.version = :expectedVersion")
+    int markCancelled(@Param("claimNumber") String claimNumber,
+                      @Param("keycloakUserId") String keycloakUserId,
+                      @Param("expectedStatus") Claim.ClaimStatus expectedStatus,
+                      @Param("expectedVersion") Long expectedVersion,
+                      @Param("newStatus") Claim.ClaimStatus newStatus,
+                      @Param("now") LocalDateTime now);
+    
+    // Review queue leases, guarded like the status transitions above
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.reviewedBy = :reviewer, c.reviewLeaseExpiresAt = :expiresAt, " +
+           "c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :status " +
+           "AND (c.reviewLeaseExpiresAt IS NULL OR c.reviewLeaseExpiresAt < :now)")
+    int acquireReviewLease(@Param("claimNumber") String claimNumber,
+                           @Param("status") Claim.ClaimStatus status,
+                           @Param("reviewer") String reviewer,
+                           @Param("expiresAt") LocalDateTime expiresAt,
+                           @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.reviewLeaseExpiresAt = :expiresAt, c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :status AND c.reviewedBy = :reviewer " +
+           "AND c.reviewLeaseExpiresAt >= :now")
+    int renewReviewLease(@Param("claimNumber") String claimNumber,
+                         @Param("status") Claim.ClaimStatus status,
+                         @Param("reviewer") String reviewer,
+                         @Param("expiresAt") LocalDateTime expiresAt,
+                         @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.reviewedBy = NULL, c.reviewLeaseExpiresAt = NULL, " +
+           "c.updatedAt = :now, c.version = c.version + 1 " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :status AND c.reviewedBy = :reviewer " +
+           "AND c.reviewLeaseExpiresAt IS NOT NULL")
+    int releaseReviewLease(@Param("claimNumber") String claimNumber,
+                           @Param("status") Claim.ClaimStatus status,
+                           @Param("reviewer") String reviewer,
+                           @Param("now") LocalDateTime now);
+    
+    // Claims one SLA breach per status entry ("since"), so only one instance escalates it, once.
+    // Not a change the claimant can see, so updatedAt and version are left alone.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.slaEscalatedAt = :now " +
+           "WHERE c.claimNumber = :claimNumber AND c.status = :status " +
+           "AND (c.slaEscalatedAt IS NULL OR c.slaEscalatedAt < :since)")
+    int markSlaEscalated(@Param("claimNumber") String claimNumber,
+                         @Param("status") Claim.ClaimStatus status,
+                         @Param("since") LocalDateTime since,
+                         @Param("now") LocalDateTime now);
+    
+    @Query("SELECT c.claimNumber AS claimNumber, c.severity AS severity, c.submittedDate AS submittedDate " +
+           "FROM Claim c WHERE c.status = :status " +
+           "AND (c.reviewLeaseExpiresAt IS NULL OR c.reviewLeaseExpiresAt < :now)")
+    List<ReviewCandidate> findReviewCandidates(@Param("status") Claim.ClaimStatus status,
+                                               @Param("now") LocalDateTime now);
+    
+    // DTO projections for read paths. Rows are built straight from the selected columns,
+    // without managed entities or dirty checking.
+    
+    String CLAIM_RESPONSE_SELECT = "SELECT new com.claims.claims_service.dto.response.ClaimResponse(" +
+            "c.id, c.claimNumber, c.policyNumber, c.policyType, c.claimType, c.status, c.incidentDate, " +
+            "c.submittedDate, c.approvedDate, c.rejectedDate, c.settledDate, c.claimedAmount, c.approvedAmount, " +
+            "c.description, c.incidentLocation, c.rejectionReason, c.adminNotes, c.documentsPath, c.reviewedBy, " +
+            "c.severity, c.createdAt, c.updatedAt, c.version) FROM Claim c ";
+    
+    // Leaves out the large text columns (description, rejection reason, admin notes)
+    String CLAIM_SUMMARY_SELECT = "SELECT new com.claims.claims_service.dto.response.ClaimSummaryResponse(" +
+            "c.id, c.claimNumber, c.policyNumber, c.policyType, c.claimType, c.status, c.severity, " +
+            "c.incidentDate, c.submittedDate, c.claimedAmount, c.approvedAmount, c.updatedAt) FROM Claim c ";
+    
+    String NEWEST_FIRST = " ORDER BY c.submittedDate DESC, c.id DESC";
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.keycloakUserId = :keycloakUserId" + NEWEST_FIRST)
+    List<ClaimResponse> findResponsesByKeycloakUserId(@Param("keycloakUserId") String keycloakUserId);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.keycloakUserId = :keycloakUserId AND c.status = :status" + NEWEST_FIRST)
+    List<ClaimResponse> findResponsesByKeycloakUserIdAndStatus(@Param("keycloakUserId") String keycloakUserId,
+                                                               @Param("status") Claim.ClaimStatus status);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.keycloakUserId = :keycloakUserId AND c.policyType = :policyType" + NEWEST_FIRST)
+    List<ClaimResponse> findResponsesByKeycloakUserIdAndPolicyType(@Param("keycloakUserId") String keycloakUserId,
+                                                                   @Param("policyType") Claim.PolicyType policyType);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.policyNumber = :policyNumber AND c.keycloakUserId = :keycloakUserId" + NEWEST_FIRST)
+    List<ClaimResponse> findResponsesByPolicyNumberAndKeycloakUserId(@Param("policyNumber") String policyNumber,
+                                                                     @Param("keycloakUserId") String keycloakUserId);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.status = :status" + NEWEST_FIRST)
+    List<ClaimResponse> findResponsesByStatus(@Param("status") Claim.ClaimStatus status);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "ORDER BY c.id")
+    List<ClaimResponse> findAllResponses();
+    
+    @Query(CLAIM_SUMMARY_SELECT + "WHERE c.keycloakUserId = :keycloakUserId" + NEWEST_FIRST)
+    List<ClaimSummaryResponse> findSummariesByKeycloakUserId(@Param("keycloakUserId") String keycloakUserId);
+    
+    @Query(CLAIM_SUMMARY_SELECT + "WHERE c.status = :status" + NEWEST_FIRST)
+    List<ClaimSummaryResponse> findSummariesByStatus(@Param("status") Claim.ClaimStatus status);
+    
+    @Query(CLAIM_SUMMARY_SELECT + "WHERE c.claimNumber IN :claimNumbers")
+    List<ClaimSummaryResponse> findSummariesByClaimNumberIn(@Param("claimNumbers") Collection<String> claimNumbers);
+    
+    // Keyset pagination, newest first. The (submittedDate, id) pair is the seek key.
+    
+    @Query(CLAIM_RESPONSE_SELECT + NEWEST_FIRST)
+    List<ClaimResponse> findFirstPage(Pageable pageable);
+    
+    @Query(CLAIM_RESPONSE_SELECT +
+           "WHERE c.submittedDate < :submittedDate OR (c.submittedDate = :submittedDate AND c.id < :id)" +
+           NEWEST_FIRST)
+    List<ClaimResponse> findPageAfter(@Param("submittedDate") LocalDateTime submittedDate,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.status = :status" + NEWEST_FIRST)
+    List<ClaimResponse> findFirstPageByStatus(@Param("status") Claim.ClaimStatus status, Pageable pageable);
+    
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.status = :status " +
+           "AND (c.submittedDate < :submittedDate OR (c.submittedDate = :submittedDate AND c.id < :id))" +
+           NEWEST_FIRST)
+    List<ClaimResponse> findPageByStatusAfter(@Param("status") Claim.ClaimStatus status,
+                                              @Param("submittedDate") LocalDateTime submittedDate,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+    
+    // Forward-only streams for exports. Callers must consume them inside a transaction and close them.
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CLAIM_RESPONSE_SELECT + "ORDER BY c.id")
+    Stream<ClaimResponse> streamAll();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CLAIM_RESPONSE_SELECT + "WHERE c.status = :status ORDER BY c.id")
+    Stream<ClaimResponse> streamByStatus(@Param("status") Claim.ClaimStatus status);
 }
@@ -0,0 +1,41 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.DocumentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+    
+    // Both reference-count updates are served by the unique index on sha256
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.sha256 = :sha256")
+    int incrementRefCount(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now " +
+           "WHERE b.sha256 = :sha256 AND b.refCount > 0")
+    int decrementRefCount(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT b.id FROM DocumentBlob b WHERE b.refCount = 0 AND b.updatedAt < :cutoff ORDER BY b.id")
+    List<Long> findUnreferencedIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    /**
+     * Lock a blob for garbage collection, only if it is still unreferenced.
+     * Concurrent uploads of the same content block on the row lock until collection commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM DocumentBlob b WHERE b.id = :id AND b.refCount = 0")
+    Optional<DocumentBlob> lockUnreferenced(@Param("id") Long id);
+}
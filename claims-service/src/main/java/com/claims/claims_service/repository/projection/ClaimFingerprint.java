@@ -0,0 +1,22 @@
+package com.claims.claims_service.repository.projection;
+
+import com.claims.claims_service.model.Claim;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The columns that identify an incident, used to warm the duplicate-claim index
+ */
+public interface ClaimFingerprint {
+    
+    String getClaimNumber();
+    
+    String getPolicyNumber();
+    
+    LocalDate getIncidentDate();
+    
+    Claim.ClaimType getClaimType();
+    
+    BigDecimal getClaimedAmount();
+}
@@ -0,0 +1,12 @@
+package com.claims.claims_service.repository.projection;
+
+/**
+ * Cheap change stamp for one user's claims: every insert raises the count and every update
+ * raises the sum of versions
+ */
+public interface ClaimListStamp {
+    
+    Long getTotal();
+    
+    Long getVersionSum();
+}
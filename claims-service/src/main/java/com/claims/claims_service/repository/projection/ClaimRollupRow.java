@@ -0,0 +1,26 @@
+package com.claims.claims_service.repository.projection;
+
+import com.claims.claims_service.model.Claim;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Claims aggregated per submission day, policy type, claim type and status (GROUP BY projection)
+ */
+public interface ClaimRollupRow {
+    
+    LocalDate getRollupDate();
+    
+    Claim.PolicyType getPolicyType();
+    
+    Claim.ClaimType getClaimType();
+    
+    Claim.ClaimStatus getStatus();
+    
+    Long getClaimCount();
+    
+    BigDecimal getClaimedAmount();
+    
+    BigDecimal getApprovedAmount();
+}
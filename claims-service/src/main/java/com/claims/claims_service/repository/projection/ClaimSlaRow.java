@@ -0,0 +1,23 @@
+package com.claims.claims_service.repository.projection;
+
+import com.claims.claims_service.model.Claim;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns needed to re-arm a claim's SLA deadline after a restart
+ */
+public interface ClaimSlaRow {
+    
+    String getClaimNumber();
+    
+    String getKeycloakUserId();
+    
+    Claim.ClaimStatus getStatus();
+    
+    LocalDateTime getSubmittedDate();
+    
+    LocalDateTime getUpdatedAt();
+    
+    LocalDateTime getSlaEscalatedAt();
+}
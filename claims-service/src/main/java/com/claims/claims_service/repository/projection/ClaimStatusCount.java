@@ -0,0 +1,13 @@
+package com.claims.claims_service.repository.projection;
+
+import com.claims.claims_service.model.Claim;
+
+/**
+ * Number of claims in one status (GROUP BY projection)
+ */
+public interface ClaimStatusCount {
+    
+    Claim.ClaimStatus getStatus();
+    
+    Long getTotal();
+}
@@ -0,0 +1,17 @@
+package com.claims.claims_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Who submitted a claim, on which policy and when, used to warm the claim velocity counters
+ */
+public interface ClaimVelocityRow {
+    
+    String getClaimNumber();
+    
+    String getKeycloakUserId();
+    
+    String getPolicyNumber();
+    
+    LocalDateTime getSubmittedDate();
+}
@@ -0,0 +1,11 @@
+package com.claims.claims_service.repository.projection;
+
+/**
+ * Owner and optimistic-lock version of one claim, enough to validate a conditional GET
+ */
+public interface ClaimVersionStamp {
+    
+    String getKeycloakUserId();
+    
+    Long getVersion();
+}
@@ -0,0 +1,17 @@
+package com.claims.claims_service.repository.projection;
+
+import com.claims.claims_service.model.Claim;
+
+import java.time.LocalDateTime;
+
+/**
+ * An unleased SUBMITTED claim and the fields that set its review priority
+ */
+public interface ReviewCandidate {
+    
+    String getClaimNumber();
+    
+    Claim.Severity getSeverity();
+    
+    LocalDateTime getSubmittedDate();
+}
@@ -0,0 +1,47 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public interface ClaimDocumentService {
+    
+    /**
+     * Store a document for a claim owned by the user
+     */
+    ClaimDocumentResponse uploadDocument(String claimNumber, MultipartFile file, String keycloakUserId);
+    
+    /**
+     * List the documents of a claim owned by the user
+     */
+    List<ClaimDocumentResponse> getDocuments(String claimNumber, String keycloakUserId);
+    
+    /**
+     * Locate a document of a claim owned by the user for download
+     */
+    DocumentFile getDocumentFile(String claimNumber, Long documentId, String keycloakUserId);
+    
+    /**
+     * Remove a document from a claim owned by the user.
+     * The stored content is released and removed once no other document references it.
+     */
+    void deleteDocument(String claimNumber, Long documentId, String keycloakUserId);
+    
+    /**
+     * Admin: List the documents of any claim
+     */
+    List<ClaimDocumentResponse> getDocumentsAsAdmin(String claimNumber);
+    
+    /**
+     * Admin: Locate a document of any claim for download
+     */
+    DocumentFile getDocumentFileAsAdmin(String claimNumber, Long documentId);
+    
+    /**
+     * A stored document file and the metadata needed to serve it
+     */
+    record DocumentFile(Path path, String fileName, String contentType, long size) {
+    }
+}
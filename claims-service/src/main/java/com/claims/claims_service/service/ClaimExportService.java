@@ -0,0 +1,38 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.model.Claim;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ClaimExportService {
+    
+    /**
+     * Admin: Stream claims to the given output, optionally filtered by status
+     *
+     * @return the number of exported claims
+     */
+    long exportClaims(ExportFormat format, Claim.ClaimStatus status, OutputStream outputStream) throws IOException;
+    
+    enum ExportFormat {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv"), "csv");
+        
+        private final MediaType mediaType;
+        private final String fileExtension;
+        
+        ExportFormat(MediaType mediaType, String fileExtension) {
+            this.mediaType = mediaType;
+            this.fileExtension = fileExtension;
+        }
+        
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+        
+        public String getFileExtension() {
+            return fileExtension;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimIntakeResponse;
+
+public interface ClaimIntakeService {
+    
+    /**
+     * Accept a claim for asynchronous persistence and assign its claim number
+     *
+     * @throws com.claims.claims_service.exception.IntakeCapacityExceededException if the intake queue is full
+     */
+    ClaimIntakeResponse enqueueClaim(ClaimRequest request, String keycloakUserId);
+    
+    /**
+     * Get the intake progress of a claim submitted by the user
+     */
+    ClaimIntakeResponse getIntakeStatus(String claimNumber, String keycloakUserId);
+}
@@ -0,0 +1,27 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.response.ClaimDailyRollupResponse;
+import com.claims.claims_service.model.Claim;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ClaimRollupService {
+    
+    /**
+     * Admin: Pre-aggregated claim counts and amounts per submission day
+     *
+     * @param from first submission date (inclusive)
+     * @param to last submission date (inclusive)
+     * @param policyType optional policy type filter
+     * @param claimType optional claim type filter
+     * @param status optional status filter
+     */
+    List<ClaimDailyRollupResponse> getDailyRollups(LocalDate from, LocalDate to, Claim.PolicyType policyType,
+                                                   Claim.ClaimType claimType, Claim.ClaimStatus status);
+    
+    /**
+     * Admin: Recompute all daily rollups from the claims table
+     */
+    void rebuildDailyRollups();
+}
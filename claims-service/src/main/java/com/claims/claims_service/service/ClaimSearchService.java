@@ -0,0 +1,22 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.response.ClaimSearchResponse;
+import com.claims.claims_service.model.Claim;
+
+import java.time.LocalDate;
+
+public interface ClaimSearchService {
+    
+    /**
+     * Admin: Full-text search over claim descriptions and incident locations
+     *
+     * @param query free-text query
+     * @param status optional status filter
+     * @param policyType optional policy type filter
+     * @param from optional earliest submission date (inclusive)
+     * @param to optional latest submission date (inclusive)
+     * @param limit maximum number of hits (null for the default)
+     */
+    ClaimSearchResponse searchClaims(String query, Claim.ClaimStatus status, Claim.PolicyType policyType,
+                                     LocalDate from, LocalDate to, Integer limit);
+}
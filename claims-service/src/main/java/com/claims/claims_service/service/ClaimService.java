@@ -3,11 +3,18 @@ package com.claims.claims_service.service;
 import com.claims.claims_service.dto.request.ClaimApprovalRequest;
 import com.claims.claims_service.dto.request.ClaimRejectionRequest;
 import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.BulkClaimResult;
+import com.claims.claims_service.dto.response.BulkClaimTransitionResponse;
+import com.claims.claims_service.dto.response.ClaimLeaseResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.dto.response.CursorPageResponse;
 import com.claims.claims_service.model.Claim;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface ClaimService {
     
@@ -16,16 +23,34 @@ public interface ClaimService {
      */
     ClaimResponse submitClaim(ClaimRequest request, String keycloakUserId);
     
+    /**
+     * Persist claims accepted through asynchronous intake, in one transaction
+     *
+     * @return the outcome for each claim; duplicates rejected by policy are reported as failures
+     */
+    List<BulkClaimResult> submitClaimBatch(List<PendingClaim> pendingClaims);
+    
     /**
      * Get claim by claim number
      */
     ClaimResponse getClaimByNumber(String claimNumber, String keycloakUserId);
     
+    /**
+     * Get the version of a claim owned by the user, without loading the claim
+     */
+    long getClaimVersion(String claimNumber, String keycloakUserId);
+    
     /**
      * Get all claims for the authenticated user
      */
     List<ClaimResponse> getMyMyClaims(String keycloakUserId);
     
+    /**
+     * Get a stamp that changes whenever any of the user's claims is created or updated,
+     * without loading the claims
+     */
+    String getMyClaimsVersion(String keycloakUserId);
+    
     /**
      * Get claims by status for the authenticated user
      */
@@ -41,6 +66,11 @@ public interface ClaimService {
      */
     List<ClaimResponse> getClaimsByPolicyNumber(String policyNumber, String keycloakUserId);
     
+    /**
+     * Get lightweight summaries of all claims for the authenticated user
+     */
+    List<ClaimSummaryResponse> getMyClaimSummaries(String keycloakUserId);
+    
     /**
      * Cancel a claim (only if in SUBMITTED or UNDER_REVIEW status)
      */
@@ -56,11 +86,43 @@ public interface ClaimService {
      */
     List<ClaimResponse> getClaimsByStatus(Claim.ClaimStatus status);
     
+    /**
+     * Admin: Get lightweight summaries of claims by status
+     */
+    List<ClaimSummaryResponse> getClaimSummariesByStatus(Claim.ClaimStatus status);
+    
+    /**
+     * Admin: Get one page of all claims, newest first (keyset pagination)
+     */
+    CursorPageResponse<ClaimResponse> getClaimsPage(String cursor, Integer size);
+    
+    /**
+     * Admin: Get one page of claims by status, newest first (keyset pagination)
+     */
+    CursorPageResponse<ClaimResponse> getClaimsPageByStatus(Claim.ClaimStatus status, String cursor, Integer size);
+    
     /**
      * Admin: Move claim to under review
      */
     ClaimResponse moveToUnderReview(String claimNumber, String adminUserId);
     
+    /**
+     * Admin: Lease the highest-priority unassigned SUBMITTED claim for review
+     *
+     * @return the leased claim, or empty when nothing is waiting
+     */
+    Optional<ClaimLeaseResponse> leaseNextClaim(String adminUserId);
+    
+    /**
+     * Admin: Extend a review lease held by the caller
+     */
+    ClaimLeaseResponse renewReviewLease(String claimNumber, String adminUserId);
+    
+    /**
+     * Admin: Give a leased claim back to the review queue
+     */
+    void releaseReviewLease(String claimNumber, String adminUserId);
+    
     /**
      * Admin: Approve a claim
      */
@@ -76,8 +138,34 @@ public interface ClaimService {
      */
     ClaimResponse settleClaim(String claimNumber, String adminUserId);
     
+    /**
+     * Admin: Move many claims to under review in one operation
+     */
+    BulkClaimTransitionResponse bulkMoveToUnderReview(List<String> claimNumbers, String adminUserId);
+    
+    /**
+     * Admin: Approve many claims in one operation
+     */
+    BulkClaimTransitionResponse bulkApproveClaims(List<ClaimApprovalRequest> requests, String adminUserId);
+    
+    /**
+     * Admin: Reject many claims in one operation
+     */
+    BulkClaimTransitionResponse bulkRejectClaims(List<ClaimRejectionRequest> requests, String adminUserId);
+    
+    /**
+     * Admin: Settle many claims in one operation
+     */
+    BulkClaimTransitionResponse bulkSettleClaims(List<String> claimNumbers, String adminUserId);
+    
     /**
      * Get claim statistics
      */
     Map<String, Object> getClaimStatistics();
+    
+    /**
+     * A validated claim submission waiting in the intake queue, with its claim number already assigned
+     */
+    record PendingClaim(String claimNumber, ClaimRequest request, String keycloakUserId, LocalDateTime submittedDate) {
+    }
 }
@@ -0,0 +1,15 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.response.ClaimSimilarityResponse;
+
+public interface ClaimSimilarityService {
+    
+    /**
+     * Admin: Find claims whose text is a copy or light edit of the given claim's
+     *
+     * @param claimNumber the claim to compare against
+     * @param minSimilarity lowest similarity to report (null for the default)
+     * @param limit maximum number of hits (null for the default)
+     */
+    ClaimSimilarityResponse findSimilarClaims(String claimNumber, Double minSimilarity, Integer limit);
+}
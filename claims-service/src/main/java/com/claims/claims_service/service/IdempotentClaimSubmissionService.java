@@ -0,0 +1,17 @@
+package com.claims.claims_service.service;
+
+import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimResponse;
+
+public interface IdempotentClaimSubmissionService {
+    
+    /**
+     * Submit a claim at most once per Idempotency-Key.
+     * Replays of a key return the response of its first submission; concurrent requests with
+     * the same key wait for the one in progress.
+     *
+     * @throws com.claims.claims_service.exception.IdempotencyKeyMismatchException if the key was
+     *         already used for a different request
+     */
+    ClaimResponse submitClaim(ClaimRequest request, String keycloakUserId, String idempotencyKey);
+}
@@ -0,0 +1,214 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.exception.ResourceNotFoundException;
+import com.claims.claims_service.exception.UploadCapacityExceededException;
+import com.claims.claims_service.mapper.ClaimDocumentMapper;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.model.ClaimDocument;
+import com.claims.claims_service.repository.ClaimDocumentRepository;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.service.ClaimDocumentService;
+import com.claims.claims_service.service.support.DocumentBlobStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Claim documents backed by the content-addressed {@link DocumentBlobStore}.
+ *
+ * The multipart part is read from the container's temporary file (file-size-threshold is 0, so
+ * parts are never held in memory) and streamed into the blob store, which stores identical
+ * content only once. The number of concurrent uploads is bounded; uploads that cannot get a
+ * slot in time are rejected.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ClaimDocumentServiceImpl implements ClaimDocumentService {
+    
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    
+    private final ClaimRepository claimRepository;
+    private final ClaimDocumentRepository claimDocumentRepository;
+    private final ClaimDocumentMapper claimDocumentMapper;
+    private final DocumentBlobStore documentBlobStore;
+    
+    @Value("${claims.documents.max-concurrent-uploads:8}")
+    private int maxConcurrentUploads;
+    
+    @Value("${claims.documents.upload-wait-ms:500}")
+    private long uploadWaitMs;
+    
+    private Semaphore uploadSlots;
+    
+    @PostConstruct
+    void init() {
+        uploadSlots = new Semaphore(maxConcurrentUploads);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ClaimDocumentResponse uploadDocument(String claimNumber, MultipartFile file, String keycloakUserId) {
+        log.info("Uploading document for claim: {} by user: {}", claimNumber, keycloakUserId);
+        
+        findOwnedClaim(claimNumber, keycloakUserId);
+        if (file.isEmpty()) {
+            throw new InvalidClaimOperationException("Uploaded document is empty");
+        }
+        
+        acquireUploadSlot();
+        try {
+            DocumentBlobStore.StoredBlob blob;
+            try (InputStream content = file.getInputStream()) {
+                blob = documentBlobStore.store(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read uploaded document", e);
+            }
+            
+            ClaimDocument document = new ClaimDocument();
+            document.setClaimNumber(claimNumber);
+            document.setFileName(sanitizeFileName(file.getOriginalFilename()));
+            document.setContentType(file.getContentType() != null ? file.getContentType() : DEFAULT_CONTENT_TYPE);
+            document.setSizeBytes(blob.size());
+            document.setSha256(blob.sha256());
+            document.setUploadedBy(keycloakUserId);
+            
+            ClaimDocument saved;
+            try {
+                saved = claimDocumentRepository.save(document);
+            } catch (RuntimeException e) {
+                documentBlobStore.release(blob.sha256());
+                throw e;
+            }
+            
+            log.info("Stored document {} for claim {} ({} bytes, deduplicated: {})",
+                    saved.getId(), claimNumber, blob.size(), blob.deduplicated());
+            return claimDocumentMapper.toResponse(saved);
+        } finally {
+            uploadSlots.release();
+        }
+    }
+    
+    @Override
+    public List<ClaimDocumentResponse> getDocuments(String claimNumber, String keycloakUserId) {
+        log.info("Fetching documents for claim: {} for user: {}", claimNumber, keycloakUserId);
+        
+        findOwnedClaim(claimNumber, keycloakUserId);
+        return listDocuments(claimNumber);
+    }
+    
+    @Override
+    public DocumentFile getDocumentFile(String claimNumber, Long documentId, String keycloakUserId) {
+        log.info("Fetching document {} of claim: {} for user: {}", documentId, claimNumber, keycloakUserId);
+        
+        findOwnedClaim(claimNumber, keycloakUserId);
+        return locate(findDocument(claimNumber, documentId));
+    }
+    
+    @Override
+    @Transactional
+    public void deleteDocument(String claimNumber, Long documentId, String keycloakUserId) {
+        log.info("Deleting document {} of claim: {} for user: {}", documentId, claimNumber, keycloakUserId);
+        
+        findOwnedClaim(claimNumber, keycloakUserId);
+        ClaimDocument document = findDocument(claimNumber, documentId);
+        
+        claimDocumentRepository.delete(document);
+        documentBlobStore.release(document.getSha256());
+        log.info("Document {} of claim {} deleted", documentId, claimNumber);
+    }
+    
+    @Override
+    public List<ClaimDocumentResponse> getDocumentsAsAdmin(String claimNumber) {
+        log.info("Admin: Fetching documents for claim: {}", claimNumber);
+        
+        findClaim(claimNumber);
+        return listDocuments(claimNumber);
+    }
+    
+    @Override
+    public DocumentFile getDocumentFileAsAdmin(String claimNumber, Long documentId) {
+        log.info("Admin: Fetching document {} of claim: {}", documentId, claimNumber);
+        
+        return locate(findDocument(claimNumber, documentId));
+    }
+    
+    private List<ClaimDocumentResponse> listDocuments(String claimNumber) {
+        return claimDocumentRepository.findByClaimNumberOrderByIdDesc(claimNumber).stream()
+                .map(claimDocumentMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+    
+    private ClaimDocument findDocument(String claimNumber, Long documentId) {
+        return claimDocumentRepository.findByIdAndClaimNumber(documentId, claimNumber)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Document " + documentId + " not found for claim: " + claimNumber));
+    }
+    
+    private DocumentFile locate(ClaimDocument document) {
+        Path path = documentBlobStore.resolve(document.getSha256());
+        if (!Files.isReadable(path)) {
+            throw new ResourceNotFoundException("Document content is no longer available: " + document.getId());
+        }
+        return new DocumentFile(path, document.getFileName(), document.getContentType(), document.getSizeBytes());
+    }
+    
+    private Claim findClaim(String claimNumber) {
+        return claimRepository.findByClaimNumber(claimNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+    }
+    
+    private Claim findOwnedClaim(String claimNumber, String keycloakUserId) {
+        Claim claim = findClaim(claimNumber);
+        
+        // Verify the claim belongs to the user
+        if (!claim.getKeycloakUserId().equals(keycloakUserId)) {
+            throw new InvalidClaimOperationException("You don't have permission to access documents of this claim");
+        }
+        return claim;
+    }
+    
+    private void acquireUploadSlot() {
+        boolean acquired;
+        try {
+            acquired = uploadSlots.tryAcquire(uploadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new UploadCapacityExceededException("Too many document uploads in progress, please retry shortly");
+        }
+    }
+    
+    private static String sanitizeFileName(String originalFileName) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            return "document";
+        }
+        // Keep only the last path segment; some clients send full paths
+        String name = originalFileName.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1);
+        if (name.isBlank()) {
+            return "document";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+}
@@ -0,0 +1,110 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.service.ClaimExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams claims straight from a database cursor to the response.
+ * Rows are projected straight into response DTOs and written before the next one is read,
+ * so no entities are managed and heap use does not depend on the number of exported claims.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimExportServiceImpl implements ClaimExportService {
+    
+    private static final int FLUSH_INTERVAL = 500;
+    
+    private static final String CSV_HEADER = String.join(",",
+            "claimNumber", "policyNumber", "policyType", "claimType", "status", "severity",
+            "incidentDate", "submittedDate", "approvedDate", "rejectedDate", "settledDate",
+            "claimedAmount", "approvedAmount", "reviewedBy", "incidentLocation", "description");
+    
+    private final ClaimRepository claimRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long exportClaims(ExportFormat format, Claim.ClaimStatus status, OutputStream outputStream) throws IOException {
+        log.info("Admin: Exporting claims as {}, status filter: {}", format, status);
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        long count = 0;
+        try (Stream<ClaimResponse> rows = status == null
+                ? claimRepository.streamAll()
+                : claimRepository.streamByStatus(status)) {
+            
+            Iterator<ClaimResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ClaimResponse row = iterator.next();
+                
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+                
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        
+        log.info("Admin: Exported {} claims as {}", count, format);
+        return count;
+    }
+    
+    private void writeCsvRow(Writer writer, ClaimResponse row) throws IOException {
+        writer.write(String.join(",",
+                csv(row.getClaimNumber()),
+                csv(row.getPolicyNumber()),
+                csv(row.getPolicyType()),
+                csv(row.getClaimType()),
+                csv(row.getStatus()),
+                csv(row.getSeverity()),
+                csv(row.getIncidentDate()),
+                csv(row.getSubmittedDate()),
+                csv(row.getApprovedDate()),
+                csv(row.getRejectedDate()),
+                csv(row.getSettledDate()),
+                csv(row.getClaimedAmount()),
+                csv(row.getApprovedAmount()),
+                csv(row.getReviewedBy()),
+                csv(row.getIncidentLocation()),
+                csv(row.getDescription())));
+    }
+    
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
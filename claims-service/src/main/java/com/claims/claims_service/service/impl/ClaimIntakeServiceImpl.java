@@ -0,0 +1,259 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.config.ReadYourWritesTracker;
+import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.BulkClaimResult;
+import com.claims.claims_service.dto.response.ClaimIntakeResponse;
+import com.claims.claims_service.exception.IntakeCapacityExceededException;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.exception.ResourceNotFoundException;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.service.ClaimIntakeService;
+import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.util.ClaimNumberGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous claim intake for submission spikes.
+ *
+ * Requests are validated and numbered up front and placed on a bounded queue; a full queue is
+ * reported as 503 so clients back off instead of piling onto the connection pool. A single writer
+ * thread drains the queue and commits whatever has accumulated, up to the batch size, in one
+ * transaction, so the number of commits (and connections) stays flat as load grows. A batch that
+ * fails is written again one claim at a time, so one bad claim does not take its batch down.
+ *
+ * Intake progress is kept for a while for polling; after that, persisted claims are looked up in
+ * the database. With replica routing on, a persisted claim's owner is registered as a recent writer
+ * and the poll that reports it carries a read-your-writes stamp, so the claim is read from the
+ * primary until the replicas have it.
+ */
+@Service
+@Slf4j
+public class ClaimIntakeServiceImpl implements ClaimIntakeService, SmartLifecycle {
+    
+    // Stop after the web server, so requests accepted during shutdown are still written
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    
+    private final ClaimService claimService;
+    private final ClaimRepository claimRepository;
+    private final ClaimNumberGenerator claimNumberGenerator;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWrites;
+    private final BlockingQueue<ClaimService.PendingClaim> queue;
+    private final Cache<String, IntakeEntry> statuses;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizes;
+    
+    @Value("${claims.intake.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${claims.intake.poll-timeout-ms:200}")
+    private long pollTimeoutMs;
+    
+    @Value("${claims.intake.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+    
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+    
+    public ClaimIntakeServiceImpl(ClaimService claimService,
+                                  ClaimRepository claimRepository,
+                                  ClaimNumberGenerator claimNumberGenerator,
+                                  ObjectProvider<ReadYourWritesTracker> readYourWrites,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${claims.intake.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${claims.intake.status-ttl-minutes:60}") long statusTtlMinutes) {
+        this.claimService = claimService;
+        this.claimRepository = claimRepository;
+        this.claimNumberGenerator = claimNumberGenerator;
+        this.readYourWrites = readYourWrites;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(Math.max(queueCapacity * 10L, 10_000L))
+                .expireAfterWrite(Duration.ofMinutes(statusTtlMinutes))
+                .build();
+        
+        Gauge.builder("claims.intake.queue.size", queue, BlockingQueue::size)
+                .description("Claims accepted and waiting to be written")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("claims.intake.rejected")
+                .description("Submissions turned away because the intake queue was full")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("claims.intake.batch.size")
+                .description("Claims written per group commit")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public ClaimIntakeResponse enqueueClaim(ClaimRequest request, String keycloakUserId) {
+        String claimNumber;
+        // Held across the check and the offer, so stop() cannot slip in between and leave the
+        // claim queued after the writer's last look at the queue
+        runningLock.readLock().lock();
+        try {
+            if (!running) {
+                rejectedCounter.increment();
+                throw new IntakeCapacityExceededException("Claim intake is not accepting submissions, please retry");
+            }
+            
+            claimNumber = claimNumberGenerator.nextClaimNumber();
+            statuses.put(claimNumber, new IntakeEntry(keycloakUserId, ClaimIntakeResponse.IntakeStatus.QUEUED, null, null, null));
+            if (!queue.offer(new ClaimService.PendingClaim(claimNumber, request, keycloakUserId, LocalDateTime.now()))) {
+                statuses.invalidate(claimNumber);
+                rejectedCounter.increment();
+                throw new IntakeCapacityExceededException("Too many claims are being submitted, please retry shortly");
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        log.info("Claim {} queued for user: {}", claimNumber, keycloakUserId);
+        
+        return new ClaimIntakeResponse(claimNumber, ClaimIntakeResponse.IntakeStatus.QUEUED, null, null);
+    }
+    
+    @Override
+    public ClaimIntakeResponse getIntakeStatus(String claimNumber, String keycloakUserId) {
+        IntakeEntry entry = statuses.getIfPresent(claimNumber);
+        if (entry == null) {
+            Claim claim = claimRepository.findByClaimNumber(claimNumber)
+                    .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+            entry = new IntakeEntry(claim.getKeycloakUserId(), ClaimIntakeResponse.IntakeStatus.PERSISTED, claim.getStatus(), null, null);
+        }
+        
+        // Verify the claim belongs to the user
+        if (!entry.ownerId().equals(keycloakUserId)) {
+            throw new InvalidClaimOperationException("You don't have permission to view this claim");
+        }
+        
+        if (entry.persistedAt() != null) {
+            long persistedAt = entry.persistedAt();
+            readYourWrites.ifAvailable(tracker -> tracker.stamp(persistedAt));
+        }
+        return new ClaimIntakeResponse(claimNumber, entry.status(), entry.claimStatus(), entry.message());
+    }
+    
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "claim-intake-writer");
+        writer.start();
+    }
+    
+    @Override
+    public void stop() {
+        // Waits for enqueues in progress; every claim they accepted is queued before the writer sees running = false
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Claim intake stopped with {} claims still queued", queue.size());
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    private void drain() {
+        List<ClaimService.PendingClaim> batch = new ArrayList<>(batchSize);
+        // Keep writing after stop() until the queue is empty
+        while (running || !queue.isEmpty()) {
+            try {
+                ClaimService.PendingClaim first = queue.poll(pollTimeoutMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // Group commit: take whatever queued up during the previous commit
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void write(List<ClaimService.PendingClaim> batch) {
+        try {
+            record(batch, claimService.submitClaimBatch(batch));
+            batchSizes.record(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} claims failed, writing them one at a time", batch.size(), e);
+            for (ClaimService.PendingClaim pending : batch) {
+                try {
+                    record(List.of(pending), claimService.submitClaimBatch(List.of(pending)));
+                } catch (RuntimeException ex) {
+                    log.error("Failed to persist queued claim {}", pending.claimNumber(), ex);
+                    statuses.put(pending.claimNumber(), new IntakeEntry(pending.keycloakUserId(),
+                            ClaimIntakeResponse.IntakeStatus.REJECTED, null, "Claim could not be saved, please submit it again", null));
+                }
+            }
+        }
+    }
+    
+    private void record(List<ClaimService.PendingClaim> batch, List<BulkClaimResult> results) {
+        Map<String, String> owners = batch.stream().collect(Collectors.toMap(
+                ClaimService.PendingClaim::claimNumber, ClaimService.PendingClaim::keycloakUserId));
+        long persistedAt = System.currentTimeMillis();
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        for (BulkClaimResult result : results) {
+            String ownerId = owners.get(result.getClaimNumber());
+            if (result.isSuccess()) {
+                // Registered before the claim is reported persisted, so the owner's next read sees it
+                if (tracker != null) {
+                    tracker.recordWrite(ownerId);
+                }
+                statuses.put(result.getClaimNumber(), new IntakeEntry(ownerId,
+                        ClaimIntakeResponse.IntakeStatus.PERSISTED, result.getStatus(), null, persistedAt));
+            } else {
+                statuses.put(result.getClaimNumber(), new IntakeEntry(ownerId,
+                        ClaimIntakeResponse.IntakeStatus.REJECTED, null, result.getError(), null));
+            }
+        }
+    }
+    
+    // persistedAt: epoch milliseconds of the commit, for the read-your-writes stamp
+    private record IntakeEntry(String ownerId, ClaimIntakeResponse.IntakeStatus status,
+                               Claim.ClaimStatus claimStatus, String message, Long persistedAt) {
+    }
+}
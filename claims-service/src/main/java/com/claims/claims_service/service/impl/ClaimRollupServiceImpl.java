@@ -0,0 +1,60 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.response.ClaimDailyRollupResponse;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.mapper.ClaimDailyRollupMapper;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimDailyRollupRepository;
+import com.claims.claims_service.service.ClaimRollupService;
+import com.claims.claims_service.service.support.ClaimRollupRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Serves trend queries from the pre-aggregated daily rollup table instead of scanning claims.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ClaimRollupServiceImpl implements ClaimRollupService {
+    
+    private final ClaimDailyRollupRepository claimDailyRollupRepository;
+    private final ClaimDailyRollupMapper claimDailyRollupMapper;
+    private final ClaimRollupRecorder claimRollupRecorder;
+    
+    @Value("${claims.rollups.max-range-days:366}")
+    private long maxRangeDays;
+    
+    @Override
+    public List<ClaimDailyRollupResponse> getDailyRollups(LocalDate from, LocalDate to, Claim.PolicyType policyType,
+                                                          Claim.ClaimType claimType, Claim.ClaimStatus status) {
+        log.info("Admin: Fetching daily rollups from {} to {} (policy type: {}, claim type: {}, status: {})",
+                from, to, policyType, claimType, status);
+        
+        if (from.isAfter(to)) {
+            throw new InvalidClaimOperationException("Rollup range start must not be after its end");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new InvalidClaimOperationException("Rollup range must not exceed " + maxRangeDays + " days");
+        }
+        
+        return claimDailyRollupMapper.toResponseList(
+                claimDailyRollupRepository.findInRange(from, to, policyType, claimType, status));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildDailyRollups() {
+        log.info("Admin: Rebuilding daily rollups");
+        claimRollupRecorder.rebuild();
+    }
+}
@@ -0,0 +1,77 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.response.ClaimSearchHit;
+import com.claims.claims_service.dto.response.ClaimSearchResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.service.ClaimSearchService;
+import com.claims.claims_service.service.support.ClaimSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks claims with the in-memory {@link ClaimSearchIndex}, then loads summaries of the hits
+ * with a single IN query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ClaimSearchServiceImpl implements ClaimSearchService {
+    
+    private final ClaimSearchIndex claimSearchIndex;
+    private final ClaimRepository claimRepository;
+    
+    @Value("${claims.search.default-limit:20}")
+    private int defaultLimit;
+    
+    @Value("${claims.search.max-limit:100}")
+    private int maxLimit;
+    
+    @Override
+    public ClaimSearchResponse searchClaims(String query, Claim.ClaimStatus status, Claim.PolicyType policyType,
+                                            LocalDate from, LocalDate to, Integer limit) {
+        log.info("Admin: Searching claims for '{}' (status: {}, policy type: {}, from: {}, to: {})",
+                query, status, policyType, from, to);
+        
+        if (query == null || query.isBlank()) {
+            throw new InvalidClaimOperationException("Search query must not be empty");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidClaimOperationException("Search range start must not be after its end");
+        }
+        int resolvedLimit = limit == null || limit <= 0 ? defaultLimit : Math.min(limit, maxLimit);
+        
+        List<ClaimSearchIndex.Hit> hits = claimSearchIndex.search(query, status, policyType, from, to, resolvedLimit);
+        if (hits.isEmpty()) {
+            return new ClaimSearchResponse(query, 0, List.of());
+        }
+        
+        Map<String, ClaimSummaryResponse> summaries = claimRepository
+                .findSummariesByClaimNumberIn(hits.stream().map(ClaimSearchIndex.Hit::claimNumber).toList())
+                .stream()
+                .collect(Collectors.toMap(ClaimSummaryResponse::getClaimNumber, Function.identity()));
+        
+        // Keep the index ranking; skip hits whose claim no longer exists
+        List<ClaimSearchHit> results = new ArrayList<>(hits.size());
+        for (ClaimSearchIndex.Hit hit : hits) {
+            ClaimSummaryResponse summary = summaries.get(hit.claimNumber());
+            if (summary != null) {
+                results.add(new ClaimSearchHit(hit.score(), summary));
+            }
+        }
+        return new ClaimSearchResponse(query, results.size(), results);
+    }
+}
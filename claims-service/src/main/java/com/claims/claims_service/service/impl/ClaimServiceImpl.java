@@ -3,23 +3,50 @@ package com.claims.claims_service.service.impl;
 import com.claims.claims_service.dto.request.ClaimApprovalRequest;
 import com.claims.claims_service.dto.request.ClaimRejectionRequest;
 import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.BulkClaimResult;
+import com.claims.claims_service.dto.response.BulkClaimTransitionResponse;
+import com.claims.claims_service.dto.response.ClaimLeaseResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.dto.response.CursorPageResponse;
 import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.exception.ClaimVelocityExceededException;
+import com.claims.claims_service.exception.DuplicateClaimException;
 import com.claims.claims_service.exception.InvalidClaimOperationException;
 import com.claims.claims_service.exception.ResourceNotFoundException;
-import com.claims.claims_service.kafka.ClaimEventPublisher;
+import com.claims.claims_service.kafka.ClaimEventOutbox;
 import com.claims.claims_service.mapper.ClaimMapper;
 import com.claims.claims_service.model.Claim;
 import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimListStamp;
+import com.claims.claims_service.repository.projection.ClaimVersionStamp;
 import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.support.ClaimAutoAdjudicator;
+import com.claims.claims_service.service.support.ClaimDuplicateIndex;
+import com.claims.claims_service.service.support.ClaimResponseCache;
+import com.claims.claims_service.service.support.ClaimReviewQueue;
+import com.claims.claims_service.service.support.ClaimStatusCounters;
+import com.claims.claims_service.service.support.ClaimVelocityTracker;
+import com.claims.claims_service.util.ClaimCursor;
+import com.claims.claims_service.util.ClaimNumberGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,44 +55,85 @@ import java.util.stream.Collectors;
 @Transactional
 public class ClaimServiceImpl implements ClaimService {
     
+    private static final String UNDER_REVIEW_RULE = "Claim can only be moved to UNDER_REVIEW from SUBMITTED status.";
+    private static final String APPROVAL_RULE = "Claim can only be approved from UNDER_REVIEW status.";
+    private static final String REJECTION_RULE = "Claim can only be rejected from UNDER_REVIEW status.";
+    private static final String SETTLEMENT_RULE = "Claim can only be settled from APPROVED status.";
+    
     private final ClaimRepository claimRepository;
     private final ClaimMapper claimMapper;
-    private final ClaimEventPublisher claimEventPublisher;
+    private final ClaimEventOutbox claimEventOutbox;
+    private final ClaimStatusCounters claimStatusCounters;
+    private final ClaimResponseCache claimResponseCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ClaimNumberGenerator claimNumberGenerator;
+    private final ClaimAutoAdjudicator claimAutoAdjudicator;
+    private final ClaimDuplicateIndex claimDuplicateIndex;
+    private final ClaimReviewQueue claimReviewQueue;
+    private final ClaimVelocityTracker claimVelocityTracker;
+    
+    @Value("${claims.pagination.default-page-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${claims.pagination.max-page-size:200}")
+    private int maxPageSize;
     
     @Override
     public ClaimResponse submitClaim(ClaimRequest request, String keycloakUserId) {
         log.info("Submitting new claim for user: {}", keycloakUserId);
         
-        Claim claim = claimMapper.toEntity(request);
-        claim.setKeycloakUserId(keycloakUserId);
-        claim.setClaimNumber(generateClaimNumber());
-        claim.setStatus(Claim.ClaimStatus.SUBMITTED);
-        claim.setSubmittedDate(LocalDateTime.now());
-        
-        if (claim.getSeverity() == null) {
-            claim.setSeverity(Claim.Severity.MEDIUM);
-        }
+        Claim claim = newClaim(request, keycloakUserId, claimNumberGenerator.nextClaimNumber(), LocalDateTime.now(),
+                List.of());
         
         Claim savedClaim = claimRepository.save(claim);
         log.info("Claim created successfully with number: {}", savedClaim.getClaimNumber());
+        publishSubmission(savedClaim);
         
         return claimMapper.toResponse(savedClaim);
     }
     
     @Override
-    @Transactional(readOnly = true)
+    public List<BulkClaimResult> submitClaimBatch(List<PendingClaim> pendingClaims) {
+        log.info("Writing a batch of {} queued claims", pendingClaims.size());
+        
+        List<BulkClaimResult> results = new ArrayList<>(pendingClaims.size());
+        List<Claim> claims = new ArrayList<>(pendingClaims.size());
+        for (PendingClaim pending : pendingClaims) {
+            try {
+                // Checked against the claims accepted so far too: none is indexed until the batch commits
+                claims.add(newClaim(pending.request(), pending.keycloakUserId(),
+                        pending.claimNumber(), pending.submittedDate(), claims));
+            } catch (DuplicateClaimException | ClaimVelocityExceededException e) {
+                results.add(BulkClaimResult.failure(pending.claimNumber(), e.getMessage()));
+            }
+        }
+        
+        // One transaction for the whole batch; the inserts are JDBC-batched on flush
+        for (Claim savedClaim : claimRepository.saveAll(claims)) {
+            publishSubmission(savedClaim);
+            results.add(BulkClaimResult.success(savedClaim.getClaimNumber(), savedClaim.getStatus()));
+        }
+        return results;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ClaimResponse getClaimByNumber(String claimNumber, String keycloakUserId) {
         log.info("Fetching claim by number: {} for user: {}", claimNumber, keycloakUserId);
         
-        Claim claim = claimRepository.findByClaimNumber(claimNumber)
+        ClaimResponseCache.CachedClaim cached = claimResponseCache.get(claimNumber, number ->
+                        claimRepository.findByClaimNumber(number)
+                                .map(claim -> new ClaimResponseCache.CachedClaim(
+                                        claim.getKeycloakUserId(), claimMapper.toResponse(claim)))
+                                .orElse(null))
                 .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
         
         // Verify the claim belongs to the user
-        if (!claim.getKeycloakUserId().equals(keycloakUserId)) {
+        if (!cached.ownerId().equals(keycloakUserId)) {
             throw new InvalidClaimOperationException("You don't have permission to view this claim");
         }
         
-        return claimMapper.toResponse(claim);
+        return cached.response();
     }
     
     @Override
@@ -73,10 +141,7 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getMyMyClaims(String keycloakUserId) {
         log.info("Fetching all claims for user: {}", keycloakUserId);
         
-        List<Claim> claims = claimRepository.findByKeycloakUserId(keycloakUserId);
-        return claims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findResponsesByKeycloakUserId(keycloakUserId);
     }
     
     @Override
@@ -84,10 +149,7 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getMyClaimsByStatus(String keycloakUserId, Claim.ClaimStatus status) {
         log.info("Fetching claims for user: {} with status: {}", keycloakUserId, status);
         
-        List<Claim> claims = claimRepository.findByKeycloakUserIdAndStatus(keycloakUserId, status);
-        return claims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findResponsesByKeycloakUserIdAndStatus(keycloakUserId, status);
     }
     
     @Override
@@ -95,10 +157,7 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getMyClaimsByPolicyType(String keycloakUserId, Claim.PolicyType policyType) {
         log.info("Fetching claims for user: {} with policy type: {}", keycloakUserId, policyType);
         
-        List<Claim> claims = claimRepository.findByKeycloakUserIdAndPolicyType(keycloakUserId, policyType);
-        return claims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findResponsesByKeycloakUserIdAndPolicyType(keycloakUserId, policyType);
     }
     
     @Override
@@ -106,24 +165,45 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getClaimsByPolicyNumber(String policyNumber, String keycloakUserId) {
         log.info("Fetching claims for policy: {} and user: {}", policyNumber, keycloakUserId);
         
-        List<Claim> claims = claimRepository.findByPolicyNumber(policyNumber);
+        // Ownership is filtered in SQL, served by the (policy_number, keycloak_user_id) index
+        return claimRepository.findResponsesByPolicyNumberAndKeycloakUserId(policyNumber, keycloakUserId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public String getMyClaimsVersion(String keycloakUserId) {
+        ClaimListStamp stamp = claimRepository.findListStampByKeycloakUserId(keycloakUserId);
+        return stamp.getTotal() + "-" + stamp.getVersionSum();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long getClaimVersion(String claimNumber, String keycloakUserId) {
+        ClaimVersionStamp stamp = claimRepository.findVersionStampByClaimNumber(claimNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
         
-        // Filter to only show user's own claims
-        List<Claim> userClaims = claims.stream()
-                .filter(claim -> claim.getKeycloakUserId().equals(keycloakUserId))
-                .collect(Collectors.toList());
+        // Verify the claim belongs to the user
+        if (!stamp.getKeycloakUserId().equals(keycloakUserId)) {
+            throw new InvalidClaimOperationException("You don't have permission to view this claim");
+        }
+        return stamp.getVersion();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClaimSummaryResponse> getMyClaimSummaries(String keycloakUserId) {
+        log.info("Fetching claim summaries for user: {}", keycloakUserId);
         
-        return userClaims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findSummariesByKeycloakUserId(keycloakUserId);
     }
     
     @Override
     public ClaimResponse cancelClaim(String claimNumber, String keycloakUserId) {
         log.info("Cancelling claim: {} for user: {}", claimNumber, keycloakUserId);
         
-        Claim claim = claimRepository.findByClaimNumber(claimNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+        // Two round trips: one read, which answers the ownership and status checks and supplies the
+        // response, then one update guarded on the status and version that were read
+        Claim claim = findClaim(claimNumber);
         
         // Verify ownership
         if (!claim.getKeycloakUserId().equals(keycloakUserId)) {
@@ -131,18 +211,29 @@ public class ClaimServiceImpl implements ClaimService {
         }
         
         // Can only cancel if in SUBMITTED or UNDER_REVIEW status
-        if (claim.getStatus() != Claim.ClaimStatus.SUBMITTED && 
-            claim.getStatus() != Claim.ClaimStatus.UNDER_REVIEW) {
+        Claim.ClaimStatus previousStatus = claim.getStatus();
+        if (previousStatus != Claim.ClaimStatus.SUBMITTED && 
+            previousStatus != Claim.ClaimStatus.UNDER_REVIEW) {
             throw new InvalidClaimOperationException(
-                "Claim can only be cancelled if in SUBMITTED or UNDER_REVIEW status. Current status: " + claim.getStatus()
+                "Claim can only be cancelled if in SUBMITTED or UNDER_REVIEW status. Current status: " + previousStatus
             );
         }
         
+        LocalDateTime now = LocalDateTime.now();
+        int updated = claimRepository.markCancelled(
+                claimNumber, keycloakUserId, previousStatus, claim.getVersion(), Claim.ClaimStatus.CANCELLED, now);
+        if (updated == 0) {
+            throw concurrentModification(claimNumber);
+        }
+        
+        // The update cleared the persistence context; apply what it wrote to the copy already read
         claim.setStatus(Claim.ClaimStatus.CANCELLED);
-        Claim savedClaim = claimRepository.save(claim);
+        claim.setUpdatedAt(now);
+        claim.setVersion(claim.getVersion() + 1);
+        publishTransition(claim, previousStatus);
         
         log.info("Claim cancelled successfully: {}", claimNumber);
-        return claimMapper.toResponse(savedClaim);
+        return claimMapper.toResponse(claim);
     }
     
     // Admin Methods
@@ -152,10 +243,7 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getAllClaims() {
         log.info("Admin: Fetching all claims");
         
-        List<Claim> claims = claimRepository.findAll();
-        return claims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findAllResponses();
     }
     
     @Override
@@ -163,61 +251,141 @@ public class ClaimServiceImpl implements ClaimService {
     public List<ClaimResponse> getClaimsByStatus(Claim.ClaimStatus status) {
         log.info("Admin: Fetching claims with status: {}", status);
         
-        List<Claim> claims = claimRepository.findByStatus(status);
-        return claims.stream()
-                .map(claimMapper::toResponse)
-                .collect(Collectors.toList());
+        return claimRepository.findResponsesByStatus(status);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClaimSummaryResponse> getClaimSummariesByStatus(Claim.ClaimStatus status) {
+        log.info("Admin: Fetching claim summaries with status: {}", status);
+        
+        return claimRepository.findSummariesByStatus(status);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClaimResponse> getClaimsPage(String cursor, Integer size) {
+        log.info("Admin: Fetching claims page, cursor: {}", cursor);
+        
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        
+        List<ClaimResponse> claims;
+        if (cursor == null || cursor.isBlank()) {
+            claims = claimRepository.findFirstPage(limit);
+        } else {
+            ClaimCursor after = ClaimCursor.decode(cursor);
+            claims = claimRepository.findPageAfter(after.submittedDate(), after.id(), limit);
+        }
+        return toCursorPage(claims, pageSize);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClaimResponse> getClaimsPageByStatus(Claim.ClaimStatus status, String cursor, Integer size) {
+        log.info("Admin: Fetching claims page with status: {}, cursor: {}", status, cursor);
+        
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        
+        List<ClaimResponse> claims;
+        if (cursor == null || cursor.isBlank()) {
+            claims = claimRepository.findFirstPageByStatus(status, limit);
+        } else {
+            ClaimCursor after = ClaimCursor.decode(cursor);
+            claims = claimRepository.findPageByStatusAfter(status, after.submittedDate(), after.id(), limit);
+        }
+        return toCursorPage(claims, pageSize);
     }
     
     @Override
     public ClaimResponse moveToUnderReview(String claimNumber, String adminUserId) {
         log.info("Admin: Moving claim to under review: {}", claimNumber);
         
-        Claim claim = claimRepository.findByClaimNumber(claimNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+        LocalDateTime now = LocalDateTime.now();
+        int updated = claimRepository.markUnderReview(claimNumber,
+                Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.UNDER_REVIEW, adminUserId, now);
         
-        if (claim.getStatus() != Claim.ClaimStatus.SUBMITTED) {
-            throw new InvalidClaimOperationException(
-                "Claim can only be moved to UNDER_REVIEW from SUBMITTED status. Current status: " + claim.getStatus()
-            );
+        if (updated == 0) {
+            requireLeaseAvailable(findClaim(claimNumber), adminUserId, now);
         }
-        
-        claim.setStatus(Claim.ClaimStatus.UNDER_REVIEW);
-        claim.setReviewedBy(adminUserId);
-        
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = completeTransition(claimNumber, updated, Claim.ClaimStatus.SUBMITTED, UNDER_REVIEW_RULE);
+        publishTransition(savedClaim, Claim.ClaimStatus.SUBMITTED);
         log.info("Claim moved to under review: {}", claimNumber);
         
         return claimMapper.toResponse(savedClaim);
     }
     
     @Override
-    public ClaimResponse approveClaim(ClaimApprovalRequest request, String adminUserId) {
-        log.info("Admin: Approving claim: {}", request.getClaimNumber());
-        
-        Claim claim = claimRepository.findByClaimNumber(request.getClaimNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + request.getClaimNumber()));
+    public Optional<ClaimLeaseResponse> leaseNextClaim(String adminUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(claimReviewQueue.getLeaseDuration());
+        
+        // Entries can be stale (reviewed or leased through another instance); skip past them
+        Optional<String> candidate;
+        while ((candidate = claimReviewQueue.poll(expiresAt)).isPresent()) {
+            String claimNumber = candidate.get();
+            if (claimRepository.acquireReviewLease(claimNumber, Claim.ClaimStatus.SUBMITTED, adminUserId, expiresAt, now) == 1) {
+                log.info("Admin: Claim {} leased to {} until {}", claimNumber, adminUserId, expiresAt);
+                afterCommit(() -> claimResponseCache.invalidate(claimNumber));
+                return Optional.of(new ClaimLeaseResponse(
+                        claimMapper.toResponse(findClaim(claimNumber)), adminUserId, expiresAt));
+            }
+            claimReviewQueue.discard(claimNumber);
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public ClaimLeaseResponse renewReviewLease(String claimNumber, String adminUserId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(claimReviewQueue.getLeaseDuration());
         
-        if (claim.getStatus() != Claim.ClaimStatus.UNDER_REVIEW) {
+        int updated = claimRepository.renewReviewLease(claimNumber, Claim.ClaimStatus.SUBMITTED, adminUserId, expiresAt, now);
+        Claim claim = findClaim(claimNumber);
+        if (updated == 0) {
             throw new InvalidClaimOperationException(
-                "Claim can only be approved from UNDER_REVIEW status. Current status: " + claim.getStatus()
-            );
+                    "Claim " + claimNumber + " has no active review lease held by you");
         }
+        afterCommit(() -> {
+            claimReviewQueue.renewed(claimNumber, expiresAt);
+            claimResponseCache.invalidate(claimNumber);
+        });
         
-        claim.setStatus(Claim.ClaimStatus.APPROVED);
-        claim.setApprovedAmount(request.getApprovedAmount());
-        claim.setApprovedDate(LocalDate.now());
-        claim.setReviewedBy(adminUserId);
-        
-        if (request.getAdminNotes() != null) {
-            claim.setAdminNotes(request.getAdminNotes());
+        return new ClaimLeaseResponse(claimMapper.toResponse(claim), adminUserId, expiresAt);
+    }
+    
+    @Override
+    public void releaseReviewLease(String claimNumber, String adminUserId) {
+        int updated = claimRepository.releaseReviewLease(
+                claimNumber, Claim.ClaimStatus.SUBMITTED, adminUserId, LocalDateTime.now());
+        findClaim(claimNumber);
+        if (updated == 0) {
+            throw new InvalidClaimOperationException(
+                    "Claim " + claimNumber + " has no review lease held by you");
         }
+        log.info("Admin: Review lease on claim {} released by {}", claimNumber, adminUserId);
+        afterCommit(() -> {
+            claimReviewQueue.released(claimNumber);
+            claimResponseCache.invalidate(claimNumber);
+        });
+    }
+    
+    @Override
+    public ClaimResponse approveClaim(ClaimApprovalRequest request, String adminUserId) {
+        log.info("Admin: Approving claim: {}", request.getClaimNumber());
         
-        Claim savedClaim = claimRepository.save(claim);
+        int updated = claimRepository.markApproved(request.getClaimNumber(),
+                Claim.ClaimStatus.UNDER_REVIEW, Claim.ClaimStatus.APPROVED,
+                request.getApprovedAmount(), request.getAdminNotes(), adminUserId, LocalDate.now(), LocalDateTime.now());
+        
+        Claim savedClaim = completeTransition(
+                request.getClaimNumber(), updated, Claim.ClaimStatus.UNDER_REVIEW, APPROVAL_RULE);
+        publishTransition(savedClaim, Claim.ClaimStatus.UNDER_REVIEW);
         log.info("Claim approved successfully: {}", request.getClaimNumber());
         
-        // Publish Kafka event
-        publishClaimStatusChangeEvent(savedClaim, "UNDER_REVIEW", "APPROVED", adminUserId, null);
+        // Record Kafka event in the outbox
+        claimEventOutbox.enqueue(buildStatusChangedEvent(savedClaim, "UNDER_REVIEW", "APPROVED", adminUserId, null));
         
         return claimMapper.toResponse(savedClaim);
     }
@@ -226,29 +394,18 @@ public class ClaimServiceImpl implements ClaimService {
     public ClaimResponse rejectClaim(ClaimRejectionRequest request, String adminUserId) {
         log.info("Admin: Rejecting claim: {}", request.getClaimNumber());
         
-        Claim claim = claimRepository.findByClaimNumber(request.getClaimNumber())
-                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + request.getClaimNumber()));
-        
-        if (claim.getStatus() != Claim.ClaimStatus.UNDER_REVIEW) {
-            throw new InvalidClaimOperationException(
-                "Claim can only be rejected from UNDER_REVIEW status. Current status: " + claim.getStatus()
-            );
-        }
-        
-        claim.setStatus(Claim.ClaimStatus.REJECTED);
-        claim.setRejectionReason(request.getRejectionReason());
-        claim.setRejectedDate(LocalDate.now());
-        claim.setReviewedBy(adminUserId);
-        
-        if (request.getAdminNotes() != null) {
-            claim.setAdminNotes(request.getAdminNotes());
-        }
+        int updated = claimRepository.markRejected(request.getClaimNumber(),
+                Claim.ClaimStatus.UNDER_REVIEW, Claim.ClaimStatus.REJECTED,
+                request.getRejectionReason(), request.getAdminNotes(), adminUserId, LocalDate.now(), LocalDateTime.now());
         
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = completeTransition(
+                request.getClaimNumber(), updated, Claim.ClaimStatus.UNDER_REVIEW, REJECTION_RULE);
+        publishTransition(savedClaim, Claim.ClaimStatus.UNDER_REVIEW);
         log.info("Claim rejected successfully: {}", request.getClaimNumber());
         
-        // Publish Kafka event
-        publishClaimStatusChangeEvent(savedClaim, "UNDER_REVIEW", "REJECTED", adminUserId, request.getRejectionReason());
+        // Record Kafka event in the outbox
+        claimEventOutbox.enqueue(buildStatusChangedEvent(
+                savedClaim, "UNDER_REVIEW", "REJECTED", adminUserId, request.getRejectionReason()));
         
         return claimMapper.toResponse(savedClaim);
     }
@@ -257,56 +414,351 @@ public class ClaimServiceImpl implements ClaimService {
     public ClaimResponse settleClaim(String claimNumber, String adminUserId) {
         log.info("Admin: Settling claim: {}", claimNumber);
         
-        Claim claim = claimRepository.findByClaimNumber(claimNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
-        
-        if (claim.getStatus() != Claim.ClaimStatus.APPROVED) {
-            throw new InvalidClaimOperationException(
-                "Claim can only be settled from APPROVED status. Current status: " + claim.getStatus()
-            );
-        }
-        
-        claim.setStatus(Claim.ClaimStatus.SETTLED);
-        claim.setSettledDate(LocalDate.now());
-        claim.setReviewedBy(adminUserId);
+        int updated = claimRepository.markSettled(claimNumber,
+                Claim.ClaimStatus.APPROVED, Claim.ClaimStatus.SETTLED, adminUserId, LocalDate.now(), LocalDateTime.now());
         
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim = completeTransition(claimNumber, updated, Claim.ClaimStatus.APPROVED, SETTLEMENT_RULE);
+        publishTransition(savedClaim, Claim.ClaimStatus.APPROVED);
         log.info("Claim settled successfully: {}", claimNumber);
         
         return claimMapper.toResponse(savedClaim);
     }
     
+    // Admin Bulk Methods
+    
     @Override
-    @Transactional(readOnly = true)
+    public BulkClaimTransitionResponse bulkMoveToUnderReview(List<String> claimNumbers, String adminUserId) {
+        log.info("Admin: Moving {} claims to under review", claimNumbers.size());
+        
+        return applyBulkTransition(claimNumbers,
+                claim -> applyUnderReview(claim, adminUserId),
+                null);
+    }
+    
+    @Override
+    public BulkClaimTransitionResponse bulkApproveClaims(List<ClaimApprovalRequest> requests, String adminUserId) {
+        log.info("Admin: Approving {} claims", requests.size());
+        
+        Map<String, ClaimApprovalRequest> byClaimNumber = new LinkedHashMap<>();
+        requests.forEach(request -> byClaimNumber.put(request.getClaimNumber(), request));
+        
+        return applyBulkTransition(new ArrayList<>(byClaimNumber.keySet()),
+                claim -> applyApproval(claim, byClaimNumber.get(claim.getClaimNumber()), adminUserId),
+                claim -> buildStatusChangedEvent(claim, "UNDER_REVIEW", "APPROVED", adminUserId, null));
+    }
+    
+    @Override
+    public BulkClaimTransitionResponse bulkRejectClaims(List<ClaimRejectionRequest> requests, String adminUserId) {
+        log.info("Admin: Rejecting {} claims", requests.size());
+        
+        Map<String, ClaimRejectionRequest> byClaimNumber = new LinkedHashMap<>();
+        requests.forEach(request -> byClaimNumber.put(request.getClaimNumber(), request));
+        
+        return applyBulkTransition(new ArrayList<>(byClaimNumber.keySet()),
+                claim -> applyRejection(claim, byClaimNumber.get(claim.getClaimNumber()), adminUserId),
+                claim -> buildStatusChangedEvent(claim, "UNDER_REVIEW", "REJECTED", adminUserId,
+                        claim.getRejectionReason()));
+    }
+    
+    @Override
+    public BulkClaimTransitionResponse bulkSettleClaims(List<String> claimNumbers, String adminUserId) {
+        log.info("Admin: Settling {} claims", claimNumbers.size());
+        
+        return applyBulkTransition(claimNumbers,
+                claim -> applySettlement(claim, adminUserId),
+                null);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getClaimStatistics() {
         log.info("Admin: Fetching claim statistics");
         
+        // Served from in-memory counters kept current by claim transitions
+        Map<Claim.ClaimStatus, Long> counts = claimStatusCounters.snapshot();
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        
         Map<String, Object> stats = new HashMap<>();
         
-        stats.put("totalClaims", claimRepository.count());
-        stats.put("submittedClaims", claimRepository.countByStatus(Claim.ClaimStatus.SUBMITTED));
-        stats.put("underReviewClaims", claimRepository.countByStatus(Claim.ClaimStatus.UNDER_REVIEW));
-        stats.put("approvedClaims", claimRepository.countByStatus(Claim.ClaimStatus.APPROVED));
-        stats.put("rejectedClaims", claimRepository.countByStatus(Claim.ClaimStatus.REJECTED));
-        stats.put("settledClaims", claimRepository.countByStatus(Claim.ClaimStatus.SETTLED));
-        stats.put("cancelledClaims", claimRepository.countByStatus(Claim.ClaimStatus.CANCELLED));
+        stats.put("totalClaims", total);
+        stats.put("submittedClaims", counts.get(Claim.ClaimStatus.SUBMITTED));
+        stats.put("underReviewClaims", counts.get(Claim.ClaimStatus.UNDER_REVIEW));
+        stats.put("approvedClaims", counts.get(Claim.ClaimStatus.APPROVED));
+        stats.put("rejectedClaims", counts.get(Claim.ClaimStatus.REJECTED));
+        stats.put("settledClaims", counts.get(Claim.ClaimStatus.SETTLED));
+        stats.put("cancelledClaims", counts.get(Claim.ClaimStatus.CANCELLED));
         
         return stats;
     }
     
-    // Helper method to generate unique claim number
-    private String generateClaimNumber() {
-        String prefix = "CLM";
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String randomPart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return prefix + "-" + timestamp.substring(timestamp.length() - 8) + "-" + randomPart;
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidClaimOperationException("Page size must be between 1 and " + maxPageSize);
+        }
+        return size;
+    }
+    
+    /**
+     * Build a page from a query that fetched one row more than requested.
+     * The extra row only tells us whether another page exists and is not returned.
+     */
+    private CursorPageResponse<ClaimResponse> toCursorPage(List<ClaimResponse> claims, int pageSize) {
+        boolean hasMore = claims.size() > pageSize;
+        List<ClaimResponse> items = hasMore ? new ArrayList<>(claims.subList(0, pageSize)) : claims;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            ClaimResponse last = items.get(items.size() - 1);
+            nextCursor = new ClaimCursor(last.getSubmittedDate(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(items, items.size(), nextCursor, hasMore);
+    }
+    
+    /**
+     * Build a new claim, applying duplicate detection, velocity limits and straight-through adjudication
+     *
+     * @param uncommitted claims built earlier in the same transaction, checked alongside the indexes
+     * @throws DuplicateClaimException if the claim duplicates another and duplicates are rejected
+     * @throws ClaimVelocityExceededException if the claim exceeds a velocity limit and such claims are rejected
+     */
+    private Claim newClaim(ClaimRequest request, String keycloakUserId, String claimNumber, LocalDateTime submittedDate,
+                           List<Claim> uncommitted) {
+        Claim claim = claimMapper.toEntity(request);
+        claim.setKeycloakUserId(keycloakUserId);
+        claim.setClaimNumber(claimNumber);
+        claim.setStatus(Claim.ClaimStatus.SUBMITTED);
+        claim.setSubmittedDate(submittedDate);
+        
+        if (claim.getSeverity() == null) {
+            claim.setSeverity(Claim.Severity.MEDIUM);
+        }
+        
+        // Same policy, incident date and claim type with a similar amount: likely filed twice
+        Optional<String> original = claimDuplicateIndex.findLikelyDuplicate(claim, uncommitted);
+        if (original.isPresent()) {
+            if (claimDuplicateIndex.getMode() == ClaimDuplicateIndex.Mode.REJECT) {
+                throw new DuplicateClaimException(
+                    "This incident has already been claimed under claim number " + original.get()
+                );
+            }
+            log.warn("Claim for policy {} looks like a duplicate of {}", claim.getPolicyNumber(), original.get());
+            claim.setAdminNotes("Possible duplicate of claim " + original.get());
+        }
+        
+        // Too many recent claims by this user or on this policy
+        Optional<String> exceededLimit = claimVelocityTracker.findExceededLimit(claim, uncommitted);
+        if (exceededLimit.isPresent()) {
+            if (claimVelocityTracker.getMode() == ClaimVelocityTracker.Mode.REJECT) {
+                throw new ClaimVelocityExceededException(
+                    "Too many claims submitted recently (" + exceededLimit.get() + "), please contact support"
+                );
+            }
+            log.warn("Claim for policy {} exceeds a velocity limit: {}", claim.getPolicyNumber(), exceededLimit.get());
+            String note = "Velocity limit reached: " + exceededLimit.get();
+            claim.setAdminNotes(claim.getAdminNotes() == null ? note : claim.getAdminNotes() + "; " + note);
+        }
+        
+        // Straight-through processing: eligible claims are inserted already approved and
+        // the intermediate transitions are published, all in the submitting transaction
+        if (original.isEmpty() && exceededLimit.isEmpty() && claimAutoAdjudicator.isEligible(claim, uncommitted)) {
+            claim.setStatus(Claim.ClaimStatus.APPROVED);
+            claim.setApprovedAmount(claim.getClaimedAmount());
+            claim.setApprovedDate(LocalDate.now());
+            claim.setReviewedBy(ClaimAutoAdjudicator.SYSTEM_REVIEWER);
+            claim.setAdminNotes("Approved automatically by straight-through adjudication");
+        }
+        return claim;
+    }
+    
+    private void publishSubmission(Claim savedClaim) {
+        if (savedClaim.getStatus() == Claim.ClaimStatus.APPROVED) {
+            publishTransition(savedClaim, null, Claim.ClaimStatus.SUBMITTED);
+            publishTransition(savedClaim, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.UNDER_REVIEW);
+            publishTransition(savedClaim, Claim.ClaimStatus.UNDER_REVIEW, Claim.ClaimStatus.APPROVED);
+            
+            // Record Kafka event in the outbox
+            claimEventOutbox.enqueue(buildStatusChangedEvent(
+                    savedClaim, "UNDER_REVIEW", "APPROVED", ClaimAutoAdjudicator.SYSTEM_REVIEWER, null));
+            log.info("Claim {} approved automatically", savedClaim.getClaimNumber());
+        } else {
+            publishTransition(savedClaim, null);
+        }
+    }
+    
+    /**
+     * Run an update of in-memory state once the surrounding transaction commits, as the transition
+     * listeners do, so a rollback or a reader racing the commit cannot see it early
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * Helper method to notify in-process listeners that a claim was created or changed status
+     */
+    private void publishTransition(Claim claim, Claim.ClaimStatus previousStatus) {
+        publishTransition(claim, previousStatus, claim.getStatus());
+    }
+    
+    private void publishTransition(Claim claim, Claim.ClaimStatus previousStatus, Claim.ClaimStatus newStatus) {
+        applicationEventPublisher.publishEvent(
+                new ClaimTransitionEvent(claim, previousStatus, newStatus, LocalDateTime.now()));
+    }
+    
+    // Transition rules, shared by the single-claim and bulk operations
+    
+    private static void requireStatus(Claim claim, Claim.ClaimStatus expectedStatus, String rule) {
+        if (claim.getStatus() != expectedStatus) {
+            throw new InvalidClaimOperationException(rule + " Current status: " + claim.getStatus());
+        }
+    }
+    
+    private void applyUnderReview(Claim claim, String adminUserId) {
+        requireStatus(claim, Claim.ClaimStatus.SUBMITTED, UNDER_REVIEW_RULE);
+        requireLeaseAvailable(claim, adminUserId, LocalDateTime.now());
+        
+        claim.setStatus(Claim.ClaimStatus.UNDER_REVIEW);
+        claim.setReviewedBy(adminUserId);
+        claim.setReviewLeaseExpiresAt(null);
+    }
+    
+    private void applyApproval(Claim claim, ClaimApprovalRequest request, String adminUserId) {
+        requireStatus(claim, Claim.ClaimStatus.UNDER_REVIEW, APPROVAL_RULE);
+        
+        claim.setStatus(Claim.ClaimStatus.APPROVED);
+        claim.setApprovedAmount(request.getApprovedAmount());
+        claim.setApprovedDate(LocalDate.now());
+        claim.setReviewedBy(adminUserId);
+        
+        if (request.getAdminNotes() != null) {
+            claim.setAdminNotes(request.getAdminNotes());
+        }
+    }
+    
+    private void applyRejection(Claim claim, ClaimRejectionRequest request, String adminUserId) {
+        requireStatus(claim, Claim.ClaimStatus.UNDER_REVIEW, REJECTION_RULE);
+        
+        claim.setStatus(Claim.ClaimStatus.REJECTED);
+        claim.setRejectionReason(request.getRejectionReason());
+        claim.setRejectedDate(LocalDate.now());
+        claim.setReviewedBy(adminUserId);
+        
+        if (request.getAdminNotes() != null) {
+            claim.setAdminNotes(request.getAdminNotes());
+        }
+    }
+    
+    private void applySettlement(Claim claim, String adminUserId) {
+        requireStatus(claim, Claim.ClaimStatus.APPROVED, SETTLEMENT_RULE);
+        
+        claim.setStatus(Claim.ClaimStatus.SETTLED);
+        claim.setSettledDate(LocalDate.now());
+        claim.setReviewedBy(adminUserId);
+    }
+    
+    /**
+     * Finish a guarded single-claim transition.
+     * On success the claim is re-read: the response and the transition listeners need the whole
+     * row, which JPQL updates cannot return, so a transition is the update plus this one read.
+     * When no row was updated the read reports why: missing, wrong status, or a concurrent change.
+     */
+    private Claim completeTransition(String claimNumber, int updated, Claim.ClaimStatus expectedStatus, String rule) {
+        Claim claim = findClaim(claimNumber);
+        if (updated == 0) {
+            requireStatus(claim, expectedStatus, rule);
+            throw concurrentModification(claimNumber);
+        }
+        return claim;
+    }
+    
+    private static void requireLeaseAvailable(Claim claim, String adminUserId, LocalDateTime now) {
+        LocalDateTime expiresAt = claim.getReviewLeaseExpiresAt();
+        if (expiresAt != null && !expiresAt.isBefore(now) && !adminUserId.equals(claim.getReviewedBy())) {
+            throw new InvalidClaimOperationException("Claim " + claim.getClaimNumber()
+                    + " is leased to another reviewer until " + expiresAt);
+        }
+    }
+    
+    private Claim findClaim(String claimNumber) {
+        return claimRepository.findByClaimNumber(claimNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+    }
+    
+    private static OptimisticLockingFailureException concurrentModification(String claimNumber) {
+        return new OptimisticLockingFailureException("Claim " + claimNumber + " was modified concurrently");
+    }
+    
+    /**
+     * Apply one transition to many claims.
+     * Targets are loaded with a single IN query, each claim is validated on its own, and the
+     * valid ones are written together (JDBC-batched on flush). Claims that are missing or in
+     * the wrong status are reported in the result instead of failing the whole request.
+     * Writes are version-checked, so a claim changed concurrently fails the request with a conflict.
+     *
+     * @param eventFactory builds the Kafka event for a transitioned claim, or null for none
+     */
+    private BulkClaimTransitionResponse applyBulkTransition(List<String> claimNumbers,
+                                                            Consumer<Claim> transition,
+                                                            Function<Claim, ClaimStatusChangedEvent> eventFactory) {
+        Set<String> requested = new LinkedHashSet<>(claimNumbers);
+        Map<String, Claim> claimsByNumber = claimRepository.findByClaimNumberIn(requested).stream()
+                .collect(Collectors.toMap(Claim::getClaimNumber, Function.identity()));
+        
+        List<BulkClaimResult> results = new ArrayList<>(requested.size());
+        List<Claim> transitioned = new ArrayList<>();
+        List<Claim.ClaimStatus> previousStatuses = new ArrayList<>();
+        
+        for (String claimNumber : requested) {
+            Claim claim = claimsByNumber.get(claimNumber);
+            if (claim == null) {
+                results.add(BulkClaimResult.failure(claimNumber, "Claim not found with number: " + claimNumber));
+                continue;
+            }
+            
+            Claim.ClaimStatus previousStatus = claim.getStatus();
+            try {
+                transition.accept(claim);
+            } catch (InvalidClaimOperationException e) {
+                results.add(BulkClaimResult.failure(claimNumber, e.getMessage()));
+                continue;
+            }
+            transitioned.add(claim);
+            previousStatuses.add(previousStatus);
+            results.add(BulkClaimResult.success(claimNumber, claim.getStatus()));
+        }
+        
+        claimRepository.saveAll(transitioned);
+        for (int i = 0; i < transitioned.size(); i++) {
+            publishTransition(transitioned.get(i), previousStatuses.get(i));
+        }
+        
+        if (eventFactory != null && !transitioned.isEmpty()) {
+            claimEventOutbox.enqueueAll(transitioned.stream().map(eventFactory).collect(Collectors.toList()));
+        }
+        
+        log.info("Admin: Bulk transition applied to {} of {} claims", transitioned.size(), requested.size());
+        return new BulkClaimTransitionResponse(
+                requested.size(), transitioned.size(), requested.size() - transitioned.size(), results);
     }
     
     /**
-     * Helper method to publish claim status change event to Kafka
+     * Helper method to build a claim status change event for Kafka.
+     * Events go to the outbox in the current transaction and are relayed to Kafka after commit.
      */
-    private void publishClaimStatusChangeEvent(Claim claim, String oldStatus, String newStatus, 
-                                                 String adminUserId, String reason) {
+    private ClaimStatusChangedEvent buildStatusChangedEvent(Claim claim, String oldStatus, String newStatus,
+                                                            String adminUserId, String reason) {
         ClaimStatusChangedEvent event = new ClaimStatusChangedEvent();
         event.setClaimNumber(claim.getClaimNumber());
         event.setOldStatus(oldStatus);
@@ -317,6 +769,6 @@ public class ClaimServiceImpl implements ClaimService {
         event.setChangedBy(adminUserId);
         event.setReason(reason);
         
-        claimEventPublisher.publishClaimStatusChanged(event);
+        return event;
     }
 }
@@ -0,0 +1,82 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.response.ClaimSimilarityHit;
+import com.claims.claims_service.dto.response.ClaimSimilarityResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.exception.ResourceNotFoundException;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.service.ClaimSimilarityService;
+import com.claims.claims_service.service.support.ClaimSimilarityIndex;
+import com.claims.claims_service.util.MinHashLsh;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Looks up near-duplicates of a claim in the in-memory {@link ClaimSimilarityIndex}, then loads
+ * summaries of the matches with a single IN query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ClaimSimilarityServiceImpl implements ClaimSimilarityService {
+    
+    private final ClaimSimilarityIndex claimSimilarityIndex;
+    private final ClaimRepository claimRepository;
+    
+    @Value("${claims.similarity.default-min-similarity:0.5}")
+    private double defaultMinSimilarity;
+    
+    @Value("${claims.similarity.default-limit:20}")
+    private int defaultLimit;
+    
+    @Value("${claims.similarity.max-limit:100}")
+    private int maxLimit;
+    
+    @Override
+    public ClaimSimilarityResponse findSimilarClaims(String claimNumber, Double minSimilarity, Integer limit) {
+        log.info("Admin: Finding claims similar to {} (min similarity: {})", claimNumber, minSimilarity);
+        
+        if (minSimilarity != null && (minSimilarity <= 0 || minSimilarity > 1)) {
+            throw new InvalidClaimOperationException("Minimum similarity must be greater than 0 and at most 1");
+        }
+        double resolvedMinSimilarity = minSimilarity == null ? defaultMinSimilarity : minSimilarity;
+        int resolvedLimit = limit == null || limit <= 0 ? defaultLimit : Math.min(limit, maxLimit);
+        
+        Claim claim = claimRepository.findByClaimNumber(claimNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Claim not found with number: " + claimNumber));
+        
+        // Query by the claim's stored text, so claims not yet indexed can be checked too
+        List<MinHashLsh.Match> matches = claimSimilarityIndex.findSimilar(claimNumber,
+                claim.getDescription(), claim.getIncidentLocation(), resolvedMinSimilarity, resolvedLimit);
+        if (matches.isEmpty()) {
+            return new ClaimSimilarityResponse(claimNumber, 0, List.of());
+        }
+        
+        Map<String, ClaimSummaryResponse> summaries = claimRepository
+                .findSummariesByClaimNumberIn(matches.stream().map(MinHashLsh.Match::key).toList())
+                .stream()
+                .collect(Collectors.toMap(ClaimSummaryResponse::getClaimNumber, Function.identity()));
+        
+        // Keep the similarity order; skip matches whose claim no longer exists
+        List<ClaimSimilarityHit> hits = new ArrayList<>(matches.size());
+        for (MinHashLsh.Match match : matches) {
+            ClaimSummaryResponse summary = summaries.get(match.key());
+            if (summary != null) {
+                hits.add(new ClaimSimilarityHit(match.similarity(), summary));
+            }
+        }
+        return new ClaimSimilarityResponse(claimNumber, hits.size(), hits);
+    }
+}
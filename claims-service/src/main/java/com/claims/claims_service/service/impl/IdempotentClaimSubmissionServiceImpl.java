@@ -0,0 +1,200 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.exception.IdempotencyKeyMismatchException;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.model.ClaimIdempotencyKey;
+import com.claims.claims_service.repository.ClaimIdempotencyKeyRepository;
+import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.IdempotentClaimSubmissionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Idempotent claim submission keyed by (user, Idempotency-Key).
+ *
+ * Keys and the responses they produced are stored in claim_idempotency_keys, in the same
+ * transaction as the claim, and kept in a bounded TTL cache in front of the table. Concurrent
+ * requests with the same key on this instance coalesce onto the first one; across instances the
+ * unique key lets only one transaction commit, and the loser returns the winner's response.
+ */
+@Service
+@Slf4j
+public class IdempotentClaimSubmissionServiceImpl implements IdempotentClaimSubmissionService {
+    
+    private static final int MAX_KEY_LENGTH = 255;
+    
+    private final ClaimService claimService;
+    private final ClaimIdempotencyKeyRepository claimIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<SubmissionKey, StoredResponse> responses;
+    private final ConcurrentMap<SubmissionKey, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration retention;
+    
+    public IdempotentClaimSubmissionServiceImpl(ClaimService claimService,
+                                                ClaimIdempotencyKeyRepository claimIdempotencyKeyRepository,
+                                                ObjectMapper objectMapper,
+                                                PlatformTransactionManager transactionManager,
+                                                @Value("${claims.idempotency.cache-max-size:10000}") long cacheMaxSize,
+                                                @Value("${claims.idempotency.retention-hours:24}") long retentionHours) {
+        this.claimService = claimService;
+        this.claimIdempotencyKeyRepository = claimIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofHours(retentionHours);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+    
+    @Override
+    public ClaimResponse submitClaim(ClaimRequest request, String keycloakUserId, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidClaimOperationException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        SubmissionKey key = new SubmissionKey(keycloakUserId, idempotencyKey);
+        String requestHash = hash(request);
+        
+        StoredResponse stored = responses.getIfPresent(key);
+        if (stored != null) {
+            log.info("Replaying claim {} for Idempotency-Key {}", stored.response().getClaimNumber(), idempotencyKey);
+            return stored.matching(requestHash);
+        }
+        
+        CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            log.info("Waiting for the submission in progress for Idempotency-Key {}", idempotencyKey);
+            return await(running).matching(requestHash);
+        }
+        
+        try {
+            StoredResponse result = submitOnce(request, key, requestHash);
+            responses.put(key, result);
+            own.complete(result);
+            return result.matching(requestHash);
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+    
+    @Scheduled(cron = "${claims.idempotency.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int purged = claimIdempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+    
+    private StoredResponse submitOnce(ClaimRequest request, SubmissionKey key, String requestHash) {
+        Optional<StoredResponse> previous = findStored(key);
+        if (previous.isPresent()) {
+            return previous.get();
+        }
+        
+        try {
+            return transactionTemplate.execute(status -> {
+                ClaimResponse response = claimService.submitClaim(request, key.keycloakUserId());
+                
+                // Claim and key commit together; a concurrent insert of the key rolls this claim back
+                ClaimIdempotencyKey row = new ClaimIdempotencyKey();
+                row.setKeycloakUserId(key.keycloakUserId());
+                row.setIdempotencyKey(key.idempotencyKey());
+                row.setRequestHash(requestHash);
+                row.setClaimNumber(response.getClaimNumber());
+                row.setResponseBody(toJson(response));
+                claimIdempotencyKeyRepository.saveAndFlush(row);
+                
+                return new StoredResponse(requestHash, response);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("Idempotency-Key {} was used concurrently by another instance", key.idempotencyKey());
+            return findStored(key).orElseThrow(() -> e);
+        }
+    }
+    
+    private Optional<StoredResponse> findStored(SubmissionKey key) {
+        return claimIdempotencyKeyRepository
+                .findByKeycloakUserIdAndIdempotencyKey(key.keycloakUserId(), key.idempotencyKey())
+                .map(row -> new StoredResponse(row.getRequestHash(), fromJson(row.getResponseBody())));
+    }
+    
+    private String hash(ClaimRequest request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash claim request", e);
+        }
+    }
+    
+    private String toJson(ClaimResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize claim response", e);
+        }
+    }
+    
+    private ClaimResponse fromJson(String body) {
+        try {
+            return objectMapper.readValue(body, ClaimResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored claim response", e);
+        }
+    }
+    
+    private static StoredResponse await(CompletableFuture<StoredResponse> submission) {
+        try {
+            return submission.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private record SubmissionKey(String keycloakUserId, String idempotencyKey) {
+    }
+    
+    private record StoredResponse(String requestHash, ClaimResponse response) {
+        
+        ClaimResponse matching(String otherHash) {
+            if (!requestHash.equals(otherHash)) {
+                throw new IdempotencyKeyMismatchException(
+                        "Idempotency-Key was already used for a different claim request");
+            }
+            return response;
+        }
+    }
+}
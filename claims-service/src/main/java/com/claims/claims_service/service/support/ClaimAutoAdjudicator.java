@@ -0,0 +1,134 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Straight-through adjudication of new claims.
+ *
+ * The rule set is compiled once from configuration into an ordered list of predicates, cheapest
+ * first, so the claimant-history lookups only run for claims that passed the in-memory checks.
+ * A claim is auto-approved only if every rule passes; otherwise it is left for an admin.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimAutoAdjudicator {
+    
+    public static final String SYSTEM_REVIEWER = "system:auto-adjudication";
+    
+    private final ClaimRepository claimRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${claims.auto-adjudication.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${claims.auto-approval-threshold:5000.00}")
+    private BigDecimal threshold;
+    
+    @Value("${claims.auto-adjudication.eligible-severities:LOW,MEDIUM}")
+    private String[] eligibleSeverities;
+    
+    @Value("${claims.auto-adjudication.excluded-claim-types:DEATH_CLAIM,CRITICAL_ILLNESS_CLAIM,DISABILITY_CLAIM,LIABILITY_CLAIM}")
+    private String[] excludedClaimTypes;
+    
+    @Value("${claims.auto-adjudication.max-prior-claims:3}")
+    private long maxPriorClaims;
+    
+    private List<Rule> rules;
+    private Counter approvedCounter;
+    private Counter referredCounter;
+    
+    @PostConstruct
+    void compileRules() {
+        Set<Claim.Severity> severities = parse(Claim.Severity.class, eligibleSeverities);
+        Set<Claim.ClaimType> excludedTypes = parse(Claim.ClaimType.class, excludedClaimTypes);
+        
+        rules = List.of(
+                new Rule("amount-within-threshold", (claim, uncommitted) ->
+                        claim.getClaimedAmount() != null && claim.getClaimedAmount().compareTo(threshold) <= 0),
+                new Rule("eligible-severity", (claim, uncommitted) ->
+                        claim.getSeverity() != null && severities.contains(claim.getSeverity())),
+                new Rule("eligible-claim-type", (claim, uncommitted) ->
+                        !excludedTypes.contains(claim.getClaimType())),
+                new Rule("no-prior-rejections", (claim, uncommitted) ->
+                        countByUser(uncommitted, claim, Claim.ClaimStatus.REJECTED) == 0
+                                && claimRepository.countByKeycloakUserIdAndStatus(
+                                        claim.getKeycloakUserId(), Claim.ClaimStatus.REJECTED) == 0),
+                new Rule("limited-claim-history", (claim, uncommitted) ->
+                        countByUser(uncommitted, claim, null)
+                                + claimRepository.countByKeycloakUserId(claim.getKeycloakUserId()) <= maxPriorClaims)
+        );
+        
+        approvedCounter = Counter.builder("claims.auto-adjudication")
+                .description("New claims evaluated for straight-through approval")
+                .tag("outcome", "approved")
+                .register(meterRegistry);
+        referredCounter = Counter.builder("claims.auto-adjudication")
+                .description("New claims evaluated for straight-through approval")
+                .tag("outcome", "referred")
+                .register(meterRegistry);
+        
+        log.info("Auto-adjudication {} (threshold: {}, severities: {}, excluded types: {}, max prior claims: {})",
+                enabled ? "enabled" : "disabled", threshold, severities, excludedTypes, maxPriorClaims);
+    }
+    
+    /**
+     * Evaluate a new claim before it is saved, so the history rules only count prior claims
+     *
+     * @param uncommitted claims not yet committed (earlier in the same batch), which the history
+     *                    rules count alongside the committed ones
+     * @return true if the claim can be approved without admin review
+     */
+    public boolean isEligible(Claim claim, Collection<Claim> uncommitted) {
+        if (!enabled) {
+            return false;
+        }
+        
+        Optional<Rule> failed = rules.stream().filter(rule -> !rule.test().test(claim, uncommitted)).findFirst();
+        if (failed.isPresent()) {
+            log.debug("Claim {} referred for review: rule {} failed", claim.getClaimNumber(), failed.get().name());
+            referredCounter.increment();
+            return false;
+        }
+        
+        approvedCounter.increment();
+        return true;
+    }
+    
+    // The claimant's other uncommitted claims, in the given status or any status when null
+    private static long countByUser(Collection<Claim> uncommitted, Claim claim, Claim.ClaimStatus status) {
+        return uncommitted.stream()
+                .filter(other -> other != claim && claim.getKeycloakUserId().equals(other.getKeycloakUserId()))
+                .filter(other -> status == null || other.getStatus() == status)
+                .count();
+    }
+    
+    private static <E extends Enum<E>> Set<E> parse(Class<E> type, String[] names) {
+        Set<E> values = EnumSet.noneOf(type);
+        Arrays.stream(names)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> values.add(Enum.valueOf(type, name)));
+        return values;
+    }
+    
+    private record Rule(String name, BiPredicate<Claim, Collection<Claim>> test) {
+    }
+}
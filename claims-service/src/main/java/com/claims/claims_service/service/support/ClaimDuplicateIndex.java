@@ -0,0 +1,181 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory hash index of live claims keyed on (policyNumber, incidentDate, claimType), used to
+ * spot the same incident being filed twice without querying the database on submit.
+ *
+ * Warmed from the database at startup and kept current from committed submissions and
+ * cancellations. The index is re-warmed on a fixed interval so claims submitted through other
+ * instances are picked up: the new index is built aside, changes committed meanwhile are replayed
+ * onto it, and it is swapped in whole.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimDuplicateIndex {
+    
+    private final ClaimRepository claimRepository;
+    
+    @Value("${claims.duplicates.mode:FLAG}")
+    private Mode mode;
+    
+    // Relative difference between claimed amounts still considered "the same" (0.10 = 10%)
+    @Value("${claims.duplicates.amount-tolerance:0.10}")
+    private BigDecimal amountTolerance;
+    
+    private volatile Map<IncidentKey, List<Entry>> index = new ConcurrentHashMap<>();
+    
+    // Guarded by this; transitions committed while a re-warm reads the database
+    private List<ClaimTransitionEvent> pendingTransitions;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${claims.duplicates.rewarm-interval-ms:3600000}",
+               fixedDelayString = "${claims.duplicates.rewarm-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void warm() {
+        synchronized (this) {
+            if (pendingTransitions != null) {
+                log.debug("Duplicate claim index re-warm already running");
+                return;
+            }
+            pendingTransitions = new ArrayList<>();
+        }
+        Map<IncidentKey, List<Entry>> fresh = new ConcurrentHashMap<>();
+        try (Stream<ClaimFingerprint> fingerprints = claimRepository.streamFingerprints(Claim.ClaimStatus.CANCELLED)) {
+            fingerprints.forEach(row -> add(fresh,
+                    new IncidentKey(row.getPolicyNumber(), row.getIncidentDate(), row.getClaimType()),
+                    new Entry(row.getClaimNumber(), row.getClaimedAmount())));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingTransitions = null;
+            }
+            throw e;
+        }
+        
+        synchronized (this) {
+            // Newer than what was read; adds replace an entry for the same claim, so none is counted twice
+            pendingTransitions.forEach(event -> apply(fresh, event));
+            pendingTransitions = null;
+            index = fresh;
+        }
+        log.info("Duplicate claim index warmed with {} incidents", fresh.size());
+    }
+    
+    /**
+     * Find an existing claim for the same incident with a similar claimed amount
+     *
+     * @param uncommitted claims not yet committed (earlier in the same batch), which the index
+     *                    only learns about after commit
+     * @return the claim number of the likely original, if any
+     */
+    public Optional<String> findLikelyDuplicate(Claim claim, Collection<Claim> uncommitted) {
+        if (mode == Mode.OFF) {
+            return Optional.empty();
+        }
+        IncidentKey key = IncidentKey.of(claim);
+        Stream<Entry> pending = uncommitted.stream()
+                .filter(other -> IncidentKey.of(other).equals(key))
+                .map(other -> new Entry(other.getClaimNumber(), other.getClaimedAmount()));
+        return Stream.concat(index.getOrDefault(key, List.of()).stream(), pending)
+                .filter(entry -> !entry.claimNumber().equals(claim.getClaimNumber()))
+                .filter(entry -> isSimilarAmount(entry.claimedAmount(), claim.getClaimedAmount()))
+                .map(Entry::claimNumber)
+                .findFirst();
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onClaimTransition(ClaimTransitionEvent event) {
+        apply(index, event);
+        if (pendingTransitions != null) {
+            pendingTransitions.add(event);
+        }
+    }
+    
+    private static void apply(Map<IncidentKey, List<Entry>> index, ClaimTransitionEvent event) {
+        Claim claim = event.getClaim();
+        if (event.isSubmission()) {
+            add(index, IncidentKey.of(claim), new Entry(claim.getClaimNumber(), claim.getClaimedAmount()));
+        } else if (event.getNewStatus() == Claim.ClaimStatus.CANCELLED) {
+            remove(index, IncidentKey.of(claim), claim.getClaimNumber());
+        }
+    }
+    
+    private boolean isSimilarAmount(BigDecimal existing, BigDecimal candidate) {
+        if (existing == null || candidate == null) {
+            return false;
+        }
+        BigDecimal larger = existing.max(candidate);
+        return existing.subtract(candidate).abs().compareTo(larger.multiply(amountTolerance)) <= 0;
+    }
+    
+    // Lists are replaced, never mutated, so readers can iterate them without locking
+    
+    private static void add(Map<IncidentKey, List<Entry>> index, IncidentKey key, Entry entry) {
+        index.compute(key, (k, entries) -> {
+            List<Entry> updated = new ArrayList<>(entries == null ? 1 : entries.size() + 1);
+            if (entries != null) {
+                entries.stream()
+                        .filter(existing -> !existing.claimNumber().equals(entry.claimNumber()))
+                        .forEach(updated::add);
+            }
+            updated.add(entry);
+            return List.copyOf(updated);
+        });
+    }
+    
+    private static void remove(Map<IncidentKey, List<Entry>> index, IncidentKey key, String claimNumber) {
+        index.computeIfPresent(key, (k, entries) -> {
+            List<Entry> updated = entries.stream()
+                    .filter(entry -> !entry.claimNumber().equals(claimNumber))
+                    .toList();
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+    
+    /**
+     * What submitClaim does with a likely duplicate
+     */
+    public enum Mode {
+        OFF,     // no detection
+        FLAG,    // accept, note it for admins and keep it out of auto-approval
+        REJECT   // refuse the submission
+    }
+    
+    private record IncidentKey(String policyNumber, LocalDate incidentDate, Claim.ClaimType claimType) {
+        static IncidentKey of(Claim claim) {
+            return new IncidentKey(claim.getPolicyNumber(), claim.getIncidentDate(), claim.getClaimType());
+        }
+    }
+    
+    private record Entry(String claimNumber, BigDecimal claimedAmount) {
+    }
+}
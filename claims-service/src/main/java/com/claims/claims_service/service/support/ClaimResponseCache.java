@@ -0,0 +1,63 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based near-cache of single claims keyed by claim number.
+ * Entries keep the owner id next to the response so ownership can be checked without a query.
+ * Entries are invalidated once a claim transition commits; the TTL bounds staleness for
+ * changes made by other instances.
+ */
+@Component
+@Slf4j
+public class ClaimResponseCache {
+    
+    private final Cache<String, CachedClaim> cache;
+    
+    public ClaimResponseCache(MeterRegistry meterRegistry,
+                              @Value("${claims.cache.claim.max-size:10000}") long maxSize,
+                              @Value("${claims.cache.claim.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "claims.claim-by-number");
+    }
+    
+    /**
+     * Return the cached claim, loading it on a miss. Missing claims are not cached.
+     */
+    public Optional<CachedClaim> get(String claimNumber, Function<String, CachedClaim> loader) {
+        return Optional.ofNullable(cache.get(claimNumber, loader));
+    }
+    
+    public void invalidate(String claimNumber) {
+        cache.invalidate(claimNumber);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        invalidate(event.getClaim().getClaimNumber());
+    }
+    
+    /**
+     * A cached claim together with the id of the user who owns it
+     */
+    public record CachedClaim(String ownerId, ClaimResponse response) {
+    }
+}
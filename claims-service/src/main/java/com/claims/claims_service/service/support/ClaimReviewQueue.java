@@ -0,0 +1,200 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ReviewCandidate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory priority heap of SUBMITTED claims waiting for a reviewer, ordered by severity
+ * (CRITICAL first) and then by submission time (oldest first).
+ *
+ * The database stays the source of truth: a claim handed out here is only leased once the
+ * guarded lease update succeeds, and the heap is rebuilt from the database at startup and on
+ * a fixed interval so claims submitted or released through other instances are picked up.
+ * Changes that arrive while a rebuild is reading the database are recorded and re-applied on top of
+ * what it read, so a rebuild never undoes a newer transition.
+ * Leases handed out by this instance are tracked until they expire and then go back on the heap.
+ */
+@Component
+@Slf4j
+public class ClaimReviewQueue {
+    
+    private static final Comparator<QueueEntry> PRIORITY = Comparator
+            .comparingInt(QueueEntry::severityRank).reversed()
+            .thenComparing(QueueEntry::submittedDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QueueEntry::claimNumber);
+    
+    private final ClaimRepository claimRepository;
+    private final Duration leaseDuration;
+    
+    // Guarded by this; entries removed from "queued" are skipped when they reach the head of the heap
+    private final PriorityQueue<QueueEntry> heap = new PriorityQueue<>(PRIORITY);
+    private final Map<String, QueueEntry> queued = new HashMap<>();
+    private final Map<String, Lease> leases = new HashMap<>();
+    // Guarded by this; claim number to its newest entry (null once removed) while a rebuild reads
+    private Map<String, QueueEntry> pendingChanges;
+    private final Object rebuildLock = new Object();
+    
+    public ClaimReviewQueue(ClaimRepository claimRepository,
+                            @Value("${claims.review-queue.lease-minutes:15}") long leaseMinutes) {
+        this.claimRepository = claimRepository;
+        this.leaseDuration = Duration.ofMinutes(leaseMinutes);
+    }
+    
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${claims.review-queue.rebuild-interval-ms:60000}",
+               fixedDelayString = "${claims.review-queue.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingChanges = new HashMap<>();
+            }
+            List<ReviewCandidate> candidates;
+            try {
+                candidates = claimRepository.findReviewCandidates(Claim.ClaimStatus.SUBMITTED, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+                throw e;
+            }
+            
+            synchronized (this) {
+                Map<String, QueueEntry> changes = pendingChanges;
+                pendingChanges = null;
+                heap.clear();
+                queued.clear();
+                for (ReviewCandidate candidate : candidates) {
+                    if (!changes.containsKey(candidate.getClaimNumber()) && !leases.containsKey(candidate.getClaimNumber())) {
+                        enqueue(new QueueEntry(candidate.getClaimNumber(), candidate.getSeverity(), candidate.getSubmittedDate()));
+                    }
+                }
+                // Changes made while the database was read are newer than what it returned
+                changes.forEach((claimNumber, entry) -> {
+                    if (entry != null && !leases.containsKey(claimNumber)) {
+                        enqueue(entry);
+                    }
+                });
+            }
+            log.debug("Review queue rebuilt with {} claims", candidates.size());
+        }
+    }
+    
+    /**
+     * Take the highest-priority claim off the queue and hold it for the given lease expiry.
+     * Callers must confirm the lease against the database and {@link #discard} it if that fails.
+     */
+    public synchronized Optional<String> poll(LocalDateTime leaseExpiresAt) {
+        reclaimExpiredLeases(LocalDateTime.now());
+        
+        QueueEntry entry;
+        while ((entry = heap.poll()) != null) {
+            if (queued.remove(entry.claimNumber(), entry)) {
+                leases.put(entry.claimNumber(), new Lease(entry, leaseExpiresAt));
+                return Optional.of(entry.claimNumber());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Extend a lease this instance handed out
+     */
+    public synchronized void renewed(String claimNumber, LocalDateTime leaseExpiresAt) {
+        Lease lease = leases.get(claimNumber);
+        if (lease != null) {
+            leases.put(claimNumber, new Lease(lease.entry(), leaseExpiresAt));
+        }
+    }
+    
+    /**
+     * Put a leased claim straight back on the queue
+     */
+    public synchronized void released(String claimNumber) {
+        Lease lease = leases.remove(claimNumber);
+        if (lease != null) {
+            enqueue(lease.entry());
+        }
+    }
+    
+    /**
+     * Forget a claim that could not be leased; the next rebuild restores it if it is still waiting
+     */
+    public synchronized void discard(String claimNumber) {
+        leases.remove(claimNumber);
+        queued.remove(claimNumber);
+        if (pendingChanges != null) {
+            pendingChanges.put(claimNumber, null);
+        }
+    }
+    
+    public synchronized int size() {
+        return queued.size();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        Claim claim = event.getClaim();
+        if (event.getNewStatus() == Claim.ClaimStatus.SUBMITTED) {
+            synchronized (this) {
+                enqueue(new QueueEntry(claim.getClaimNumber(), claim.getSeverity(), claim.getSubmittedDate()));
+            }
+        } else {
+            discard(claim.getClaimNumber());
+        }
+    }
+    
+    private void enqueue(QueueEntry entry) {
+        if (pendingChanges != null) {
+            pendingChanges.put(entry.claimNumber(), entry);
+        }
+        QueueEntry previous = queued.put(entry.claimNumber(), entry);
+        if (previous == null || !previous.equals(entry)) {
+            heap.offer(entry);
+        }
+    }
+    
+    private void reclaimExpiredLeases(LocalDateTime now) {
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (lease.expiresAt().isBefore(now)) {
+                iterator.remove();
+                enqueue(lease.entry());
+            }
+        }
+    }
+    
+    private record QueueEntry(String claimNumber, Claim.Severity severity, LocalDateTime submittedDate) {
+        
+        int severityRank() {
+            return severity == null ? -1 : severity.ordinal();
+        }
+    }
+    
+    private record Lease(QueueEntry entry, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.model.ClaimDailyRollup;
+import com.claims.claims_service.model.ClaimJobLock;
+import com.claims.claims_service.repository.ClaimDailyRollupRepository;
+import com.claims.claims_service.repository.ClaimJobLockRepository;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimRollupRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link ClaimDailyRollup} rows current as claims move between statuses.
+ *
+ * Each committed transition moves the claim out of the row for its previous status and into
+ * the row for its new one. The listener only merges those deltas in memory, keyed by rollup row;
+ * a scheduled applier drains them and writes each touched row once, in one transaction per run,
+ * so a burst of transitions costs a handful of row updates rather than a transaction apiece on
+ * the request path. Rows are upserted: an in-place delta update through the unique key, or an
+ * insert when the row does not exist yet. A run that fails puts its deltas back for the next one;
+ * deltas still pending when the instance stops abnormally are lost, and the scheduled rebuild,
+ * meant to run off-peak, recomputes every row from the claims table.
+ *
+ * The rebuild holds the rollup job lock exclusively and the applier holds it shared before it
+ * drains, so deltas wait for a running rebuild and land on the rows it wrote rather than on rows it
+ * is replacing. The rebuild drops this instance's pending deltas, which its read of the claims
+ * table already covers. A transition that commits just before that read but reaches the listener
+ * after it, or one still pending on another instance, is counted twice until the next rebuild.
+ * Every instance runs the cron, but only the first to take the lock rebuilds; the others see it
+ * ran recently and skip.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimRollupRecorder {
+    
+    // Statuses whose approved amount counts towards the rollups
+    private static final Set<Claim.ClaimStatus> APPROVED_STATUSES =
+            EnumSet.of(Claim.ClaimStatus.APPROVED, Claim.ClaimStatus.SETTLED);
+    
+    private static final String REBUILD_LOCK = "claim-daily-rollups";
+    // A scheduled rebuild that completed this recently already ran for this cron firing
+    private static final Duration RECENT_REBUILD = Duration.ofHours(1);
+    
+    private final ClaimDailyRollupRepository claimDailyRollupRepository;
+    private final ClaimRepository claimRepository;
+    private final ClaimJobLockRepository claimJobLockRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    // Unapplied deltas merged per rollup row
+    private final Map<RollupKey, RollupDelta> pendingDeltas = new ConcurrentHashMap<>();
+    
+    private TransactionTemplate newTransaction;
+    
+    @PostConstruct
+    void init() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void createRebuildLock() {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!claimJobLockRepository.existsByName(REBUILD_LOCK)) {
+                    ClaimJobLock lock = new ClaimJobLock();
+                    lock.setName(REBUILD_LOCK);
+                    claimJobLockRepository.saveAndFlush(lock);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Rollup rebuild lock was created by another instance");
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        try {
+            Claim claim = event.getClaim();
+            if (event.getPreviousStatus() != null) {
+                record(claim, event.getPreviousStatus(), -1);
+            }
+            record(claim, event.getNewStatus(), 1);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record daily rollup deltas for claim {}; the next rebuild corrects them",
+                    event.getClaim().getClaimNumber(), e);
+        }
+    }
+    
+    /**
+     * Write the pending deltas, one upsert per touched rollup row
+     */
+    @Scheduled(fixedDelayString = "${claims.rollups.apply-interval-ms:1000}")
+    public void applyPendingDeltas() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        Map<RollupKey, RollupDelta> batch = new HashMap<>();
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                // Wait for a running rebuild before draining, so it can drop what it already counted
+                claimJobLockRepository.lockSharedByName(REBUILD_LOCK);
+                drainInto(batch);
+                batch.forEach(this::upsert);
+            });
+            log.debug("Applied deltas to {} daily rollup rows", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach((key, delta) -> pendingDeltas.merge(key, delta, RollupDelta::plus));
+            log.warn("Failed to apply deltas to {} daily rollup rows; retrying on the next run", batch.size(), e);
+        }
+    }
+    
+    @PreDestroy
+    void flushPendingDeltas() {
+        applyPendingDeltas();
+    }
+    
+    /**
+     * Recompute every rollup row from the claims table in one transaction, waiting for a rebuild
+     * running elsewhere to finish first
+     */
+    @Transactional
+    public void rebuild() {
+        rebuildLocked(claimJobLockRepository.lockByName(REBUILD_LOCK).orElseThrow(
+                () -> new IllegalStateException("Rollup rebuild lock " + REBUILD_LOCK + " does not exist")));
+    }
+    
+    @Scheduled(cron = "${claims.rollups.rebuild-cron:0 15 2 * * *}")
+    @Transactional
+    public void scheduledRebuild() {
+        Optional<ClaimJobLock> lock = claimJobLockRepository.tryLockByName(REBUILD_LOCK);
+        if (lock.isEmpty()) {
+            log.debug("Daily claim rollups are being rebuilt by another instance");
+            return;
+        }
+        LocalDateTime lastRunAt = lock.get().getLastRunAt();
+        if (lastRunAt != null && lastRunAt.isAfter(LocalDateTime.now().minus(RECENT_REBUILD))) {
+            log.debug("Daily claim rollups were already rebuilt at {}", lastRunAt);
+            return;
+        }
+        rebuildLocked(lock.get());
+    }
+    
+    private void rebuildLocked(ClaimJobLock lock) {
+        // Committed before the read below, so already counted by it
+        pendingDeltas.clear();
+        List<ClaimRollupRow> rows = claimRepository.aggregateDailyRollups();
+        
+        claimDailyRollupRepository.deleteAllInBatch();
+        claimDailyRollupRepository.saveAll(rows.stream().map(ClaimRollupRecorder::toRollup).toList());
+        lock.setLastRunAt(LocalDateTime.now());
+        log.info("Daily claim rollups rebuilt with {} rows", rows.size());
+    }
+    
+    private void record(Claim claim, Claim.ClaimStatus status, int sign) {
+        RollupKey key = new RollupKey(claim.getSubmittedDate().toLocalDate(), claim.getPolicyType(),
+                claim.getClaimType(), status);
+        BigDecimal claimed = signed(claim.getClaimedAmount(), sign);
+        BigDecimal approved = APPROVED_STATUSES.contains(status) ? signed(claim.getApprovedAmount(), sign) : BigDecimal.ZERO;
+        pendingDeltas.merge(key, new RollupDelta(sign, claimed, approved), RollupDelta::plus);
+    }
+    
+    private void drainInto(Map<RollupKey, RollupDelta> batch) {
+        for (RollupKey key : pendingDeltas.keySet()) {
+            RollupDelta delta = pendingDeltas.remove(key);
+            if (delta != null && !delta.isEmpty()) {
+                batch.put(key, delta);
+            }
+        }
+    }
+    
+    private void upsert(RollupKey key, RollupDelta delta) {
+        int updated = claimDailyRollupRepository.addToRollup(key.day(), key.policyType(), key.claimType(),
+                key.status(), delta.count(), delta.claimed(), delta.approved(), LocalDateTime.now());
+        if (updated == 0) {
+            ClaimDailyRollup rollup = new ClaimDailyRollup();
+            rollup.setRollupDate(key.day());
+            rollup.setPolicyType(key.policyType());
+            rollup.setClaimType(key.claimType());
+            rollup.setStatus(key.status());
+            rollup.setClaimCount(delta.count());
+            rollup.setClaimedAmount(delta.claimed());
+            rollup.setApprovedAmount(delta.approved());
+            claimDailyRollupRepository.saveAndFlush(rollup);
+        }
+    }
+    
+    int pendingRows() {
+        return pendingDeltas.size();
+    }
+    
+    private static BigDecimal signed(BigDecimal amount, int sign) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        return sign < 0 ? amount.negate() : amount;
+    }
+    
+    private static ClaimDailyRollup toRollup(ClaimRollupRow row) {
+        ClaimDailyRollup rollup = new ClaimDailyRollup();
+        rollup.setRollupDate(row.getRollupDate());
+        rollup.setPolicyType(row.getPolicyType());
+        rollup.setClaimType(row.getClaimType());
+        rollup.setStatus(row.getStatus());
+        rollup.setClaimCount(row.getClaimCount());
+        rollup.setClaimedAmount(row.getClaimedAmount());
+        rollup.setApprovedAmount(APPROVED_STATUSES.contains(row.getStatus()) ? row.getApprovedAmount() : BigDecimal.ZERO);
+        return rollup;
+    }
+    
+    private record RollupKey(LocalDate day, Claim.PolicyType policyType, Claim.ClaimType claimType,
+                             Claim.ClaimStatus status) {
+    }
+    
+    private record RollupDelta(long count, BigDecimal claimed, BigDecimal approved) {
+        
+        RollupDelta plus(RollupDelta other) {
+            return new RollupDelta(count + other.count, claimed.add(other.claimed), approved.add(other.approved));
+        }
+        
+        boolean isEmpty() {
+            return count == 0 && claimed.signum() == 0 && approved.signum() == 0;
+        }
+    }
+}
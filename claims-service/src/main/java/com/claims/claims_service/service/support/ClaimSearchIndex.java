@@ -0,0 +1,319 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Embedded inverted index over claim descriptions and incident locations, ranked with BM25.
+ *
+ * Rebuilt from the repository at startup and maintained from committed claim transitions.
+ * All writes run on a single background thread, so indexing stays off the request path and
+ * updates are applied in commit order; searches take a read lock and run concurrently.
+ * When the update queue is full the committing thread applies the update itself.
+ *
+ * The index is also rebuilt on a fixed interval so claims submitted or moved through other
+ * instances are picked up: the new index is built aside, updates applied meanwhile (on either
+ * thread) are replayed onto it, and it is swapped in whole.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimSearchIndex {
+    
+    // BM25 parameters (common defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "that", "the", "to", "was", "were", "with");
+    
+    private final ClaimRepository claimRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${claims.search.update-queue-capacity:10000}")
+    private int updateQueueCapacity;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Guarded by lock
+    private Corpus corpus = new Corpus();
+    
+    // Guarded by lock; updates applied while a rebuild reads the database
+    private List<Consumer<Corpus>> pendingUpdates;
+    
+    private ThreadPoolExecutor indexer;
+    
+    @PostConstruct
+    void startIndexer() {
+        indexer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(updateQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "claim-search-indexer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    @PreDestroy
+    void stopIndexer() {
+        indexer.shutdown();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        indexer.execute(this::rebuild);
+    }
+    
+    @Scheduled(initialDelayString = "${claims.search.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${claims.search.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        Claim claim = event.getClaim();
+        if (event.isSubmission()) {
+            IndexedClaim indexed = toIndexed(claim.getClaimNumber(), event.getNewStatus(), claim.getPolicyType(),
+                    claim.getSubmittedDate(), claim.getDescription(), claim.getIncidentLocation());
+            indexer.execute(() -> apply(target -> target.put(indexed)));
+        } else {
+            String claimNumber = claim.getClaimNumber();
+            Claim.ClaimStatus status = event.getNewStatus();
+            indexer.execute(() -> apply(target -> target.updateStatus(claimNumber, status)));
+        }
+    }
+    
+    /**
+     * Rank claims against a free-text query
+     *
+     * @param status optional status filter
+     * @param policyType optional policy type filter
+     * @param from optional earliest submission date (inclusive)
+     * @param to optional latest submission date (inclusive)
+     * @param limit maximum number of hits
+     * @return hits, best first
+     */
+    public List<Hit> search(String query, Claim.ClaimStatus status, Claim.PolicyType policyType,
+                            LocalDate from, LocalDate to, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Map<String, Map<String, Integer>> postings = corpus.postings;
+            Map<String, IndexedClaim> claims = corpus.claims;
+            int documentCount = claims.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) corpus.totalLength / documentCount;
+            
+            Map<String, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<String, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((claimNumber, frequency) -> {
+                    IndexedClaim claim = claims.get(claimNumber);
+                    if (!claim.matches(status, policyType, from, to)) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * claim.length() / averageLength);
+                    scores.merge(claimNumber, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            
+            // Keep the best `limit` hits in a min-heap
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            scores.forEach((claimNumber, score) -> {
+                best.offer(new Hit(claimNumber, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+            
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingUpdates != null) {
+                log.debug("Claim search index rebuild already running");
+                return;
+            }
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        // Built aside and swapped in, so searches keep using the old index meanwhile
+        Corpus fresh = new Corpus();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<ClaimResponse> rows = claimRepository.streamAll()) {
+                    rows.forEach(row -> fresh.put(toIndexed(row.getClaimNumber(), row.getStatus(), row.getPolicyType(),
+                            row.getSubmittedDate(), row.getDescription(), row.getIncidentLocation())));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            // Newer than what was read; puts replace the claim and status updates overwrite it
+            pendingUpdates.forEach(update -> update.accept(fresh));
+            pendingUpdates = null;
+            corpus = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Claim search index rebuilt with {} claims and {} terms", fresh.claims.size(), fresh.postings.size());
+    }
+    
+    void apply(Consumer<Corpus> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(corpus);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    static IndexedClaim toIndexed(String claimNumber, Claim.ClaimStatus status, Claim.PolicyType policyType,
+                                          LocalDateTime submittedDate, String description, String incidentLocation) {
+        List<String> tokens = new ArrayList<>(tokenize(description));
+        tokens.addAll(tokenize(incidentLocation));
+        
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        return new IndexedClaim(claimNumber, status, policyType,
+                submittedDate != null ? submittedDate.toLocalDate() : null, tokens.size(), frequencies);
+    }
+    
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * A ranked search result
+     */
+    public record Hit(String claimNumber, double score) {
+    }
+    
+    record IndexedClaim(String claimNumber, Claim.ClaimStatus status, Claim.PolicyType policyType,
+                                LocalDate submittedDate, int length, Map<String, Integer> termFrequencies) {
+        
+        IndexedClaim withStatus(Claim.ClaimStatus newStatus) {
+            return new IndexedClaim(claimNumber, newStatus, policyType, submittedDate, length, termFrequencies);
+        }
+        
+        boolean matches(Claim.ClaimStatus statusFilter, Claim.PolicyType policyTypeFilter, LocalDate from, LocalDate to) {
+            return (statusFilter == null || statusFilter == status)
+                    && (policyTypeFilter == null || policyTypeFilter == policyType)
+                    && (from == null || (submittedDate != null && !submittedDate.isBefore(from)))
+                    && (to == null || (submittedDate != null && !submittedDate.isAfter(to)));
+        }
+    }
+    
+    /**
+     * Postings and documents of one generation of the index; not thread-safe
+     */
+    static final class Corpus {
+        
+        // term -> claim number -> term frequency
+        private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+        private final Map<String, IndexedClaim> claims = new HashMap<>();
+        private long totalLength;
+        
+        void put(IndexedClaim claim) {
+            remove(claim.claimNumber());
+            claims.put(claim.claimNumber(), claim);
+            totalLength += claim.length();
+            claim.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(claim.claimNumber(), frequency));
+        }
+        
+        void updateStatus(String claimNumber, Claim.ClaimStatus status) {
+            claims.computeIfPresent(claimNumber, (number, claim) -> claim.withStatus(status));
+        }
+        
+        private void remove(String claimNumber) {
+            IndexedClaim existing = claims.remove(claimNumber);
+            if (existing == null) {
+                return;
+            }
+            totalLength -= existing.length();
+            existing.termFrequencies().keySet().forEach(term -> {
+                Map<String, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(claimNumber);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            });
+        }
+    }
+}
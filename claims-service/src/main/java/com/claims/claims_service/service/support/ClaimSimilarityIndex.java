@@ -0,0 +1,192 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.util.MinHashLsh;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Near-duplicate index over claim text (description plus incident location), used to spot the
+ * same story being filed by different users or on different policies.
+ *
+ * Backed by a {@link MinHashLsh}, so a lookup only compares the claims that share a band bucket
+ * with the query. Rebuilt from the repository at startup and fed new submissions after commit on
+ * a single background thread, like {@link ClaimSearchIndex}. Cancelled and rejected claims stay
+ * in the index: a withdrawn copy is still evidence of a pattern.
+ *
+ * The index is rebuilt on a fixed interval so claims submitted through other instances are picked
+ * up: the new index is built aside, submissions indexed meanwhile (on the indexer thread, or on the
+ * committing thread when the update queue is full) are replayed onto it, and it is swapped in whole.
+ */
+@Component
+@Slf4j
+public class ClaimSimilarityIndex {
+    
+    // Fixed so signatures do not change between restarts
+    private static final long SEED = 0x5EEDC1A1L;
+    
+    private final ClaimRepository claimRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final int hashCount;
+    private final int bands;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadPoolExecutor indexer;
+    private MinHashLsh lsh;
+    
+    // Guarded by lock; submissions indexed while a rebuild reads the database
+    private Map<String, String> pendingPuts;
+    
+    public ClaimSimilarityIndex(ClaimRepository claimRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${claims.similarity.hash-count:128}") int hashCount,
+                                @Value("${claims.similarity.bands:32}") int bands,
+                                @Value("${claims.similarity.update-queue-capacity:10000}") int updateQueueCapacity) {
+        this.claimRepository = claimRepository;
+        this.transactionManager = transactionManager;
+        this.hashCount = hashCount;
+        this.bands = bands;
+        this.lsh = new MinHashLsh(hashCount, bands, SEED);
+        this.indexer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(updateQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "claim-similarity-indexer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    @PreDestroy
+    void stopIndexer() {
+        indexer.shutdown();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        indexer.execute(this::rebuild);
+    }
+    
+    @Scheduled(initialDelayString = "${claims.similarity.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${claims.similarity.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        if (!event.isSubmission()) {
+            return;
+        }
+        Claim claim = event.getClaim();
+        String claimNumber = claim.getClaimNumber();
+        String text = textOf(claim.getDescription(), claim.getIncidentLocation());
+        indexer.execute(() -> put(claimNumber, text));
+    }
+    
+    /**
+     * Find indexed claims whose text is similar to the given claim's
+     *
+     * @param claimNumber the claim to leave out of the results
+     * @param description the claim's description
+     * @param incidentLocation the claim's incident location
+     * @param minSimilarity lowest estimated similarity to report, between 0 and 1
+     * @param limit maximum number of matches
+     * @return matches, most similar first
+     */
+    public List<MinHashLsh.Match> findSimilar(String claimNumber, String description, String incidentLocation,
+                                              double minSimilarity, int limit) {
+        String text = textOf(description, incidentLocation);
+        lock.readLock().lock();
+        try {
+            return lsh.findSimilar(text, claimNumber, minSimilarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingPuts != null) {
+                log.debug("Claim similarity index rebuild already running");
+                return;
+            }
+            pendingPuts = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        // Built aside and swapped in, so lookups keep using the old index meanwhile
+        MinHashLsh fresh = new MinHashLsh(hashCount, bands, SEED);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<ClaimResponse> rows = claimRepository.streamAll()) {
+                    rows.forEach(row -> fresh.put(row.getClaimNumber(),
+                            textOf(row.getDescription(), row.getIncidentLocation())));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingPuts = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            // Newer than what was read; puts replace the text under the same key
+            pendingPuts.forEach(fresh::put);
+            pendingPuts = null;
+            lsh = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Claim similarity index rebuilt with {} claims", fresh.size());
+    }
+    
+    void put(String claimNumber, String text) {
+        lock.writeLock().lock();
+        try {
+            lsh.put(claimNumber, text);
+            if (pendingPuts != null) {
+                pendingPuts.put(claimNumber, text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static String textOf(String description, String incidentLocation) {
+        if (incidentLocation == null || incidentLocation.isBlank()) {
+            return description;
+        }
+        return (description == null ? "" : description) + " " + incidentLocation;
+    }
+}
@@ -0,0 +1,213 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.kafka.ClaimEventOutbox;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimSlaRow;
+import com.claims.claims_service.util.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Deadline tracking for claims waiting in SUBMITTED or UNDER_REVIEW.
+ *
+ * Every committed transition re-arms the claim's timer in a {@link HierarchicalTimingWheel}: the
+ * previous deadline is cancelled and, if the new status has an SLA, a new one is scheduled from
+ * the time the claim entered it. A background thread advances the wheel; when a deadline passes,
+ * the breach is marked on the claim with a guarded update and the escalation is written to the
+ * outbox in the same short transaction, so each status entry is escalated once even when several
+ * instances hold the timer, and Kafka is never waited on from the ticker. If the transaction
+ * fails, the escalation is retried after a delay.
+ *
+ * The wheel is rebuilt from the database at startup. Transitions committed through another
+ * instance are only seen here after a restart; that instance escalates them meanwhile.
+ */
+@Component
+@Slf4j
+public class ClaimSlaMonitor {
+    
+    private final ClaimRepository claimRepository;
+    private final ClaimEventOutbox claimEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter failureCounter;
+    private final Map<Claim.ClaimStatus, Duration> slas = new EnumMap<>(Claim.ClaimStatus.class);
+    private final long tickMillis;
+    
+    // Guarded by this
+    private final HierarchicalTimingWheel<SlaTimer> wheel;
+    private final Map<String, HierarchicalTimingWheel.Timeout<SlaTimer>> timers = new HashMap<>();
+    
+    @Value("${claims.sla.retry-delay-ms:60000}")
+    private long retryDelayMs;
+    
+    private ScheduledExecutorService ticker;
+    
+    public ClaimSlaMonitor(ClaimRepository claimRepository,
+                           ClaimEventOutbox claimEventOutbox,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${claims.sla.submitted-hours:48}") long submittedHours,
+                           @Value("${claims.sla.under-review-hours:120}") long underReviewHours,
+                           @Value("${claims.sla.tick-ms:1000}") long tickMillis,
+                           @Value("${claims.sla.wheel-size:64}") int wheelSize) {
+        this.claimRepository = claimRepository;
+        this.claimEventOutbox = claimEventOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.tickMillis = tickMillis;
+        this.slas.put(Claim.ClaimStatus.SUBMITTED, Duration.ofHours(submittedHours));
+        this.slas.put(Claim.ClaimStatus.UNDER_REVIEW, Duration.ofHours(underReviewHours));
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        
+        Gauge.builder("claims.sla.pending", this, ClaimSlaMonitor::pending)
+                .description("Claims with an SLA deadline still to come")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("claims.sla.escalation.failures")
+                .description("SLA escalations that could not be recorded and will be retried")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    void startTicker() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "claim-sla-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> tick(System.currentTimeMillis()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stopTicker() {
+        ticker.shutdownNow();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<ClaimSlaRow> rows = claimRepository.streamSlaRows(slas.keySet())) {
+            rows.forEach(row -> {
+                // UNDER_REVIEW has no entry timestamp of its own; its last update is when it got there
+                LocalDateTime since = row.getStatus() == Claim.ClaimStatus.SUBMITTED
+                        ? row.getSubmittedDate() : row.getUpdatedAt();
+                if (row.getSlaEscalatedAt() == null || row.getSlaEscalatedAt().isBefore(since)) {
+                    armIfAbsent(row.getClaimNumber(), row.getKeycloakUserId(), row.getStatus(), since);
+                }
+            });
+        }
+        log.info("Claim SLA monitor rebuilt with {} pending deadlines", pending());
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        Claim claim = event.getClaim();
+        LocalDateTime since = event.isSubmission() ? claim.getSubmittedDate() : event.getOccurredAt();
+        arm(claim.getClaimNumber(), claim.getKeycloakUserId(), event.getNewStatus(), since);
+    }
+    
+    public synchronized int pending() {
+        return wheel.size();
+    }
+    
+    // Replace the claim's deadline with the one for its new status, if that status has an SLA
+    private synchronized void arm(String claimNumber, String keycloakUserId, Claim.ClaimStatus status, LocalDateTime since) {
+        HierarchicalTimingWheel.Timeout<SlaTimer> previous = timers.remove(claimNumber);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+        Duration sla = slas.get(status);
+        if (sla != null && since != null) {
+            LocalDateTime deadline = since.plus(sla);
+            schedule(new SlaTimer(claimNumber, keycloakUserId, status, since, deadline), toEpochMillis(deadline));
+        }
+    }
+    
+    // For the rebuild: a timer armed by a transition committed meanwhile is newer than the row
+    private synchronized void armIfAbsent(String claimNumber, String keycloakUserId, Claim.ClaimStatus status,
+                                          LocalDateTime since) {
+        if (!timers.containsKey(claimNumber)) {
+            arm(claimNumber, keycloakUserId, status, since);
+        }
+    }
+    
+    private void schedule(SlaTimer timer, long epochMillis) {
+        timers.put(timer.claimNumber(), wheel.schedule(timer, epochMillis));
+    }
+    
+    // Advance the wheel to the given time and escalate every deadline it passes
+    void tick(long nowMillis) {
+        List<SlaTimer> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(nowMillis, timer -> {
+                timers.remove(timer.claimNumber());
+                due.add(timer);
+            });
+        }
+        due.forEach(timer -> escalate(timer, nowMillis));
+    }
+    
+    private void escalate(SlaTimer timer, long nowMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Boolean escalated = transactionTemplate.execute(status -> {
+                if (claimRepository.markSlaEscalated(timer.claimNumber(), timer.status(), timer.since(), now) == 0) {
+                    return false;  // moved on, or already escalated by another instance
+                }
+                // Relayed to Kafka after commit, so the mark and the event commit or roll back together
+                claimEventOutbox.enqueue(new ClaimSlaEscalationEvent(timer.claimNumber(), timer.status().name(),
+                        timer.keycloakUserId(), timer.since(), timer.deadline(), now));
+                return true;
+            });
+            if (Boolean.TRUE.equals(escalated)) {
+                meterRegistry.counter("claims.sla.escalations", "status", timer.status().name()).increment();
+                log.warn("Claim {} breached its {} SLA (deadline {})", timer.claimNumber(), timer.status(), timer.deadline());
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.error("Failed to escalate claim {}, retrying in {} ms", timer.claimNumber(), retryDelayMs, e);
+            synchronized (this) {
+                // Unless a newer transition re-armed the claim meanwhile
+                if (!timers.containsKey(timer.claimNumber())) {
+                    schedule(timer, nowMillis + retryDelayMs);
+                }
+            }
+        }
+    }
+    
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private record SlaTimer(String claimNumber, String keycloakUserId, Claim.ClaimStatus status,
+                            LocalDateTime since, LocalDateTime deadline) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory claim counts per status.
+ * Warmed with a single GROUP BY query, then kept current from committed claim transitions.
+ * A periodic reconciliation re-reads the counts to correct drift (for example transitions
+ * made by another instance).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimStatusCounters {
+    
+    private final ClaimRepository claimRepository;
+    
+    private final Map<Claim.ClaimStatus, AtomicLong> counters = createCounters();
+    
+    private volatile boolean warmed;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        reload();
+        log.info("Claim status counters warmed: {}", snapshot());
+    }
+    
+    /**
+     * Re-read the counts from the database and replace any drifted values
+     */
+    @Scheduled(fixedDelayString = "${claims.statistics.reconcile-interval-ms:300000}",
+               initialDelayString = "${claims.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<Claim.ClaimStatus, Long> before = snapshot();
+        reload();
+        Map<Claim.ClaimStatus, Long> after = snapshot();
+        if (!before.equals(after)) {
+            log.warn("Claim status counters drifted, corrected from {} to {}", before, after);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        if (event.getPreviousStatus() != null) {
+            counters.get(event.getPreviousStatus()).decrementAndGet();
+        }
+        counters.get(event.getNewStatus()).incrementAndGet();
+    }
+    
+    /**
+     * Current count per status
+     */
+    public Map<Claim.ClaimStatus, Long> snapshot() {
+        if (!warmed) {
+            reload();
+        }
+        Map<Claim.ClaimStatus, Long> snapshot = new EnumMap<>(Claim.ClaimStatus.class);
+        counters.forEach((status, count) -> snapshot.put(status, count.get()));
+        return snapshot;
+    }
+    
+    private synchronized void reload() {
+        Map<Claim.ClaimStatus, Long> totals = new EnumMap<>(Claim.ClaimStatus.class);
+        for (ClaimStatusCount row : claimRepository.countGroupedByStatus()) {
+            totals.put(row.getStatus(), row.getTotal());
+        }
+        counters.forEach((status, count) -> count.set(totals.getOrDefault(status, 0L)));
+        warmed = true;
+    }
+    
+    private static Map<Claim.ClaimStatus, AtomicLong> createCounters() {
+        Map<Claim.ClaimStatus, AtomicLong> map = new EnumMap<>(Claim.ClaimStatus.class);
+        for (Claim.ClaimStatus status : Claim.ClaimStatus.values()) {
+            map.put(status, new AtomicLong());
+        }
+        return map;
+    }
+}
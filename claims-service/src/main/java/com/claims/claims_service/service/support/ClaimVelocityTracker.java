@@ -0,0 +1,213 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimVelocityRow;
+import com.claims.claims_service.util.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * In-memory claim velocity: claims per user over the last days and claims per policy over the
+ * last months, read on submit without querying the database.
+ *
+ * Warmed from the database at startup and fed committed submissions, so claims still in flight
+ * are not counted yet (callers pass their own uncommitted claims to the check). The counters are
+ * re-warmed on a fixed interval so claims submitted through other instances are picked up: the new
+ * counters are built aside, submissions committed meanwhile are replayed onto them, and they are
+ * swapped in whole. Cancelled claims keep counting: withdrawing a claim does not undo the attempt.
+ */
+@Component
+@Slf4j
+public class ClaimVelocityTracker {
+    
+    // Streamed claims submitted this close to the start of a re-warm may also be replayed from the
+    // submissions recorded during it, so their claim numbers are kept to count them once
+    private static final Duration REWARM_OVERLAP = Duration.ofMinutes(5);
+    
+    private final ClaimRepository claimRepository;
+    private final Duration userWindow;
+    private final Duration policyWindow;
+    private final int userWindowDays;
+    private final int policyWindowDays;
+    private final int lockStripes;
+    private volatile Counters counters;
+    
+    // Guarded by this; submissions committed while a re-warm reads the database
+    private Map<String, Submission> pendingSubmissions;
+    
+    @Value("${claims.velocity.mode:FLAG}")
+    private Mode mode;
+    
+    @Value("${claims.velocity.max-claims-per-user:10}")
+    private int maxClaimsPerUser;
+    
+    @Value("${claims.velocity.max-claims-per-policy:12}")
+    private int maxClaimsPerPolicy;
+    
+    public ClaimVelocityTracker(ClaimRepository claimRepository,
+                                @Value("${claims.velocity.user-window-days:30}") int userWindowDays,
+                                @Value("${claims.velocity.policy-window-days:365}") int policyWindowDays,
+                                @Value("${claims.velocity.lock-stripes:64}") int lockStripes) {
+        this.claimRepository = claimRepository;
+        this.userWindow = Duration.ofDays(userWindowDays);
+        this.policyWindow = Duration.ofDays(policyWindowDays);
+        this.userWindowDays = userWindowDays;
+        this.policyWindowDays = policyWindowDays;
+        this.lockStripes = lockStripes;
+        this.counters = newCounters();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${claims.velocity.rewarm-interval-ms:3600000}",
+               fixedDelayString = "${claims.velocity.rewarm-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void warm() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(userWindow.compareTo(policyWindow) > 0 ? userWindow : policyWindow);
+        LocalDateTime overlapFrom = now.minus(REWARM_OVERLAP);
+        Counters fresh = newCounters();
+        Set<String> recent = new HashSet<>();
+        synchronized (this) {
+            if (pendingSubmissions != null) {
+                log.debug("Claim velocity re-warm already running");
+                return;
+            }
+            pendingSubmissions = new HashMap<>();
+        }
+        try (Stream<ClaimVelocityRow> rows = claimRepository.streamVelocityRowsSince(since)) {
+            rows.forEach(row -> {
+                fresh.record(row.getKeycloakUserId(), row.getPolicyNumber(), row.getSubmittedDate());
+                if (row.getSubmittedDate() != null && !row.getSubmittedDate().isBefore(overlapFrom)) {
+                    recent.add(row.getClaimNumber());
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingSubmissions = null;
+            }
+            throw e;
+        }
+        
+        synchronized (this) {
+            pendingSubmissions.forEach((claimNumber, submission) -> {
+                if (!recent.contains(claimNumber)) {
+                    fresh.record(submission.keycloakUserId(), submission.policyNumber(), submission.submittedDate());
+                }
+            });
+            pendingSubmissions = null;
+            counters = fresh;
+        }
+        log.info("Claim velocity counters warmed for {} users and {} policies", fresh.perUser().size(), fresh.perPolicy().size());
+    }
+    
+    /**
+     * Check a new claim against the velocity limits
+     *
+     * @param uncommitted claims not yet committed (earlier in the same batch), which the counters
+     *                    only learn about after commit
+     * @return a description of the limit the claim would exceed, if any
+     */
+    public Optional<String> findExceededLimit(Claim claim, Collection<Claim> uncommitted) {
+        if (mode == Mode.OFF) {
+            return Optional.empty();
+        }
+        Counters counters = this.counters;
+        int userClaims = counters.perUser().count(claim.getKeycloakUserId())
+                + countMatching(uncommitted, Claim::getKeycloakUserId, claim.getKeycloakUserId());
+        if (userClaims >= maxClaimsPerUser) {
+            return Optional.of(userClaims + " claims submitted in the last " + userWindow.toDays() + " days");
+        }
+        int policyClaims = counters.perPolicy().count(claim.getPolicyNumber())
+                + countMatching(uncommitted, Claim::getPolicyNumber, claim.getPolicyNumber());
+        if (policyClaims >= maxClaimsPerPolicy) {
+            return Optional.of(policyClaims + " claims on policy " + claim.getPolicyNumber()
+                    + " in the last " + policyWindow.toDays() + " days");
+        }
+        return Optional.empty();
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onClaimTransition(ClaimTransitionEvent event) {
+        if (event.isSubmission()) {
+            Claim claim = event.getClaim();
+            synchronized (this) {
+                counters.record(claim.getKeycloakUserId(), claim.getPolicyNumber(), claim.getSubmittedDate());
+                if (pendingSubmissions != null) {
+                    pendingSubmissions.put(claim.getClaimNumber(),
+                            new Submission(claim.getKeycloakUserId(), claim.getPolicyNumber(), claim.getSubmittedDate()));
+                }
+            }
+        }
+    }
+    
+    @Scheduled(cron = "${claims.velocity.evict-cron:0 30 3 * * *}")
+    public void evictIdle() {
+        Counters counters = this.counters;
+        int evicted = counters.perUser().evictIdle() + counters.perPolicy().evictIdle();
+        log.debug("Evicted {} idle claim velocity counters", evicted);
+    }
+    
+    private static int countMatching(Collection<Claim> claims, Function<Claim, String> key, String value) {
+        int count = 0;
+        for (Claim claim : claims) {
+            if (value.equals(key.apply(claim))) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private Counters newCounters() {
+        // Day-wide buckets: velocity rules do not need finer resolution
+        return new Counters(
+                new SlidingWindowCounter(userWindow, userWindowDays, lockStripes, System::currentTimeMillis),
+                new SlidingWindowCounter(policyWindow, policyWindowDays, lockStripes, System::currentTimeMillis));
+    }
+    
+    private record Counters(SlidingWindowCounter perUser, SlidingWindowCounter perPolicy) {
+        
+        void record(String keycloakUserId, String policyNumber, LocalDateTime submittedDate) {
+            long epochMillis = (submittedDate != null ? submittedDate : LocalDateTime.now())
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            perUser.record(keycloakUserId, epochMillis);
+            perPolicy.record(policyNumber, epochMillis);
+        }
+    }
+    
+    private record Submission(String keycloakUserId, String policyNumber, LocalDateTime submittedDate) {
+    }
+    
+    /**
+     * What submitClaim does with a claim over a velocity limit
+     */
+    public enum Mode {
+        OFF,     // no limits
+        FLAG,    // accept, note it for admins and keep it out of auto-approval
+        REJECT   // refuse the submission
+    }
+}
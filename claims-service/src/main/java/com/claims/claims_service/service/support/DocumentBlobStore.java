@@ -0,0 +1,229 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.model.DocumentBlob;
+import com.claims.claims_service.repository.DocumentBlobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Content-addressed store for claim document files.
+ *
+ * Files live under {@code <claims.document-upload-path>/blobs/ab/cd/<sha256>} and are stored once
+ * per distinct content. Uploads are streamed to a temporary file while the hash is computed; if a
+ * blob with that hash already exists the temporary file is dropped and the blob's reference count
+ * is incremented instead. Blobs whose count has stayed at zero for the grace period are deleted.
+ *
+ * Content is only ever linked by uploading it: clients cannot attach an existing blob by hash,
+ * so knowing a hash does not grant access to the content.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentBlobStore {
+    
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+    private static final int COLLECT_BATCH_SIZE = 100;
+    
+    private final DocumentBlobRepository documentBlobRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${claims.document-upload-path}")
+    private String uploadPath;
+    
+    @Value("${claims.documents.gc-grace-hours:24}")
+    private long gcGraceHours;
+    
+    private Path blobRoot;
+    private Path tempRoot;
+    private TransactionTemplate newTransaction;
+    
+    @PostConstruct
+    void init() {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        blobRoot = root.resolve("blobs");
+        tempRoot = root.resolve("tmp");
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * Store content and take one reference to its blob.
+     * The caller must {@link #release} the reference if it does not end up linking the blob.
+     */
+    public StoredBlob store(InputStream content) {
+        Path temp = null;
+        try {
+            Files.createDirectories(tempRoot);
+            temp = Files.createTempFile(tempRoot, "upload-", ".part");
+            
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = channel.transferFrom(source, size, TRANSFER_CHUNK_BYTES)) > 0) {
+                    size += transferred;
+                }
+                channel.force(false);
+            }
+            
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            boolean deduplicated = acquire(sha256, size, temp);
+            return new StoredBlob(sha256, size, deduplicated);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store document", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+    
+    /**
+     * Drop one reference to a blob. The file is removed later by garbage collection.
+     */
+    @Transactional
+    public void release(String sha256) {
+        if (documentBlobRepository.decrementRefCount(sha256, LocalDateTime.now()) == 0) {
+            log.warn("Released a reference to blob {} that had none", sha256);
+        }
+    }
+    
+    public Path resolve(String sha256) {
+        return blobRoot.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+    
+    /**
+     * Delete blobs that have been unreferenced for longer than the grace period.
+     * Each blob is locked, its file deleted and its row removed in its own transaction, so an
+     * upload of the same content either re-references the blob first or waits and re-creates it.
+     */
+    @Scheduled(cron = "${claims.documents.gc-cron:0 30 * * * *}")
+    public void collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(gcGraceHours);
+        int collected = 0;
+        
+        List<Long> candidates;
+        do {
+            candidates = documentBlobRepository.findUnreferencedIds(cutoff, PageRequest.of(0, COLLECT_BATCH_SIZE));
+            for (Long id : candidates) {
+                Boolean deleted = newTransaction.execute(status -> documentBlobRepository.lockUnreferenced(id)
+                        .map(blob -> {
+                            deleteFile(resolve(blob.getSha256()));
+                            documentBlobRepository.delete(blob);
+                            return true;
+                        })
+                        .orElse(false));
+                if (Boolean.TRUE.equals(deleted)) {
+                    collected++;
+                }
+            }
+        } while (candidates.size() == COLLECT_BATCH_SIZE);
+        
+        if (collected > 0) {
+            log.info("Collected {} unreferenced document blobs", collected);
+        }
+    }
+    
+    /**
+     * Reference an existing blob or register a new one, moving the temp file into place when needed.
+     * A concurrent first upload of the same content can win the insert; the reference is then retried.
+     *
+     * @return whether the content was already stored
+     */
+    private boolean acquire(String sha256, long size, Path temp) {
+        Path target = resolve(sha256);
+        try {
+            return Boolean.TRUE.equals(newTransaction.execute(status -> register(sha256, size, temp, target)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Blob {} was registered concurrently, referencing it instead", sha256);
+            return Boolean.TRUE.equals(newTransaction.execute(status -> register(sha256, size, temp, target)));
+        }
+    }
+    
+    private boolean register(String sha256, long size, Path temp, Path target) {
+        // Existence check and reference in one statement, through the unique hash index
+        boolean existing = documentBlobRepository.incrementRefCount(sha256, LocalDateTime.now()) == 1;
+        
+        // Also restores the file if a previous collection deleted it but failed to remove the row
+        if (!Files.exists(target)) {
+            moveIntoPlace(temp, target);
+        }
+        
+        if (!existing) {
+            DocumentBlob blob = new DocumentBlob();
+            blob.setSha256(sha256);
+            blob.setSizeBytes(size);
+            blob.setRefCount(1);
+            documentBlobRepository.saveAndFlush(blob);
+        } else {
+            log.info("Deduplicated upload of blob {} ({} bytes)", sha256, size);
+        }
+        return existing;
+    }
+    
+    private static void moveIntoPlace(Path temp, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store document", e);
+        }
+    }
+    
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete " + path, e);
+        }
+    }
+    
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+    
+    /**
+     * A stored blob
+     *
+     * @param deduplicated whether identical content was already stored
+     */
+    public record StoredBlob(String sha256, long size, boolean deduplicated) {
+    }
+}
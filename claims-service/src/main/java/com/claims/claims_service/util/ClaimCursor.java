@@ -0,0 +1,46 @@
+package com.claims.claims_service.util;
+
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for claim listings.
+ * Points at the last row of a page by its (submittedDate, id) sort key so the
+ * next page can seek past it instead of counting an OFFSET.
+ */
+public record ClaimCursor(LocalDateTime submittedDate, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode the cursor as a URL-safe token
+     */
+    public String encode() {
+        String raw = submittedDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * @throws InvalidClaimOperationException if the token is malformed
+     */
+    public static ClaimCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidClaimOperationException("Invalid page cursor");
+            }
+            return new ClaimCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidClaimOperationException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.claims.claims_service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style claim number generator.
+ *
+ * Each id packs 41 bits of milliseconds since 2024-01-01, a 10-bit node id and a 12-bit
+ * per-millisecond sequence, so ids are unique across instances with distinct node ids and
+ * roughly ordered by time. The (timestamp, sequence) state lives in one {@link AtomicLong}
+ * and is advanced with compare-and-set; an exhausted sequence or a clock that moves
+ * backwards simply borrows the next millisecond, so the generator never blocks.
+ *
+ * Ids are rendered as "CLM-" followed by 13 fixed-width Crockford base32 characters,
+ * which keeps lexicographic order equal to numeric order for the claimNumber index.
+ *
+ * Every instance needs its own claims.claim-number.node-id. Only the dev, local and test profiles
+ * may leave it unset and derive one from host and pid; anywhere else startup fails, since two
+ * derived ids can collide and then hand out the same claim numbers.
+ */
+@Component
+@Slf4j
+public class ClaimNumberGenerator {
+    
+    static final long EPOCH_MILLIS = 1704067200000L;  // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    
+    private static final String PREFIX = "CLM-";
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final Profiles DERIVED_NODE_ID_PROFILES = Profiles.of("dev", "local", "test");
+    
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+    
+    @Autowired
+    public ClaimNumberGenerator(@Value("${claims.claim-number.node-id:-1}") long configuredNodeId,
+                                Environment environment) {
+        this(configuredNodeId >= 0 ? configuredNodeId : deriveNodeId(environment), System::currentTimeMillis);
+    }
+    
+    ClaimNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Claim number node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+    
+    /**
+     * Next claim number, e.g. CLM-0K5Z3M8Q2R4T6
+     */
+    public String nextClaimNumber() {
+        return encode(nextId());
+    }
+    
+    long nextId() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            // Either a fresh millisecond, or the next sequence on the last one (carrying into the
+            // timestamp when the sequence is exhausted or the wall clock went backwards)
+            next = Math.max(now, current + 1);
+        } while (!state.compareAndSet(current, next));
+        
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+    
+    static String encode(long id) {
+        char[] buffer = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+        for (int i = buffer.length - 1; i >= PREFIX.length(); i--) {
+            buffer[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(buffer);
+    }
+    
+    static long deriveNodeId(Environment environment) {
+        if (!environment.acceptsProfiles(DERIVED_NODE_ID_PROFILES)) {
+            throw new IllegalStateException("claims.claim-number.node-id must be set to a value between 0 and "
+                    + MAX_NODE_ID + " that is unique per instance; it is only derived in the dev, local and test profiles");
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        long nodeId = (identity.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+        log.warn("claims.claim-number.node-id is not set, derived node id {} from {}. "
+                + "Instances with derived node ids can collide.", nodeId, identity);
+        return nodeId;
+    }
+}
@@ -0,0 +1,197 @@
+package com.claims.claims_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of long-lived timers.
+ *
+ * Time advances in fixed ticks. Level 0 has one bucket per tick for the next {@code wheelSize}
+ * ticks; each higher level covers {@code wheelSize} times the span of the one below, and levels are
+ * added as far-off deadlines need them. A timer is linked into the bucket for its deadline on the
+ * lowest level whose span reaches it, so scheduling and cancelling are constant-time list
+ * operations. Whenever the lower level completes a lap, the current bucket of the level above is
+ * redistributed downwards, so every timer is moved at most once per level before it expires.
+ *
+ * Deadlines are rounded up to whole ticks: a timer never expires early, and at most one tick late
+ * relative to the time passed to {@link #advanceTo}.
+ *
+ * Not thread-safe; callers guard access.
+ */
+public class HierarchicalTimingWheel<T> {
+    
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final int mask;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+    
+    /**
+     * @param tickMillis length of one tick in milliseconds
+     * @param wheelSize buckets per level; must be a power of two
+     * @param startMillis epoch-millisecond time the wheel starts at
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.bitsPerLevel = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+    
+    /**
+     * Schedule a timer; a deadline already passed expires on the next tick
+     *
+     * @return a handle for {@link #cancel}
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, -Math.floorDiv(-deadlineMillis, tickMillis));
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+    
+    /**
+     * Cancel a pending timer
+     *
+     * @return false if it had already expired or been cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.previous == null) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+    
+    /**
+     * Advance the wheel to the given time, handing every timer whose deadline has been reached to
+     * the consumer, tick by tick
+     */
+    public void advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                // Nothing to cascade or expire: jump straight there
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            
+            // Cascade from the levels above whenever the level below starts a new lap
+            for (int level = 1; level < levels.size(); level++) {
+                if ((currentTick & ((1L << (bitsPerLevel * level)) - 1)) != 0) {
+                    break;
+                }
+                Bucket<T> bucket = levels.get(level)[slot(currentTick, level)];
+                for (Timeout<T> timeout = bucket.pollFirst(); timeout != null; timeout = bucket.pollFirst()) {
+                    place(timeout, currentTick);
+                }
+            }
+            
+            Bucket<T> due = levels.isEmpty() ? null : levels.get(0)[slot(currentTick, 0)];
+            if (due != null) {
+                for (Timeout<T> timeout = due.pollFirst(); timeout != null; timeout = due.pollFirst()) {
+                    size--;
+                    expired.accept(timeout.payload);
+                }
+            }
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    // Timers due before earliestTick go into its bucket
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long tick = Math.max(timeout.deadlineTick, earliestTick);
+        long delta = tick - currentTick;
+        int level = 0;
+        while (level < Long.SIZE / bitsPerLevel && delta >= 1L << (bitsPerLevel * (level + 1))) {
+            level++;
+        }
+        levels(level)[slot(tick, level)].addLast(timeout);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Bucket<T>[] levels(int level) {
+        while (levels.size() <= level) {
+            Bucket<T>[] buckets = new Bucket[mask + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+    
+    private int slot(long tick, int level) {
+        return (int) ((tick >>> (bitsPerLevel * level)) & mask);
+    }
+    
+    /**
+     * A scheduled timer
+     */
+    public static final class Timeout<T> {
+        
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+        
+        private Timeout(T payload, long deadlineMillis, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+        
+        public T getPayload() {
+            return payload;
+        }
+        
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+        
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+    
+    // Circular doubly-linked list around a sentinel
+    private static final class Bucket<T> {
+        
+        private final Timeout<T> head = new Timeout<>(null, 0, 0);
+        
+        Bucket() {
+            head.previous = head;
+            head.next = head;
+        }
+        
+        void addLast(Timeout<T> timeout) {
+            timeout.previous = head.previous;
+            timeout.next = head;
+            head.previous.next = timeout;
+            head.previous = timeout;
+        }
+        
+        Timeout<T> pollFirst() {
+            Timeout<T> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            first.unlink();
+            return first;
+        }
+    }
+}
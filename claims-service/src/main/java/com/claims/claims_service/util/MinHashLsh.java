@@ -0,0 +1,225 @@
+package com.claims.claims_service.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash signatures with banded locality-sensitive hashing, for finding near-duplicate texts
+ * without comparing every pair.
+ *
+ * Each text is normalised and cut into overlapping character shingles, then summarised by a
+ * signature holding the minimum of each of {@code hashCount} hash functions over its shingles.
+ * The fraction of positions on which two signatures agree estimates the Jaccard similarity of
+ * their shingle sets. Signatures are split into bands of consecutive rows and each band is
+ * hashed into its own bucket table; only texts that share a bucket in at least one band are
+ * compared, so a lookup touches a few buckets instead of the whole index. With b bands of
+ * r rows, a pair with similarity s becomes a candidate with probability 1 - (1 - s^r)^b.
+ *
+ * Not thread-safe; callers guard access.
+ */
+public class MinHashLsh {
+    
+    static final int SHINGLE_LENGTH = 5;
+    
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private final int hashCount;
+    private final int rows;
+    private final long[] multipliers;
+    private final long[] increments;
+    
+    private final Map<String, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<String>>> buckets;
+    
+    /**
+     * @param hashCount signature length
+     * @param bands number of bands; must divide {@code hashCount}
+     * @param seed seed for the hash functions, so signatures are reproducible
+     */
+    public MinHashLsh(int hashCount, int bands, long seed) {
+        if (hashCount <= 0 || bands <= 0 || hashCount % bands != 0) {
+            throw new IllegalArgumentException("hashCount must be a positive multiple of bands");
+        }
+        this.hashCount = hashCount;
+        this.rows = hashCount / bands;
+        this.multipliers = new long[hashCount];
+        this.increments = new long[hashCount];
+        
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+    
+    /**
+     * Index a text under the given key, replacing whatever the key held before
+     *
+     * @return false if the text has nothing to index (blank or punctuation only)
+     */
+    public boolean put(String key, String text) {
+        remove(key);
+        int[] signature = signature(text);
+        if (signature == null) {
+            return false;
+        }
+        signatures.put(key, signature);
+        for (int band = 0; band < buckets.size(); band++) {
+            buckets.get(band).computeIfAbsent(bandHash(signature, band), hash -> new HashSet<>()).add(key);
+        }
+        return true;
+    }
+    
+    public void remove(String key) {
+        int[] signature = signatures.remove(key);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < buckets.size(); band++) {
+            Map<Long, Set<String>> table = buckets.get(band);
+            long hash = bandHash(signature, band);
+            Set<String> bucket = table.get(hash);
+            if (bucket != null) {
+                bucket.remove(key);
+                if (bucket.isEmpty()) {
+                    table.remove(hash);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Find indexed texts similar to the given one
+     *
+     * @param text the text to match
+     * @param excludedKey optional key to leave out of the results, usually the text's own key
+     * @param minSimilarity lowest estimated Jaccard similarity to report, between 0 and 1
+     * @param limit maximum number of matches
+     * @return matches, most similar first
+     */
+    public List<Match> findSimilar(String text, String excludedKey, double minSimilarity, int limit) {
+        int[] signature = signature(text);
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < buckets.size(); band++) {
+            Set<String> bucket = buckets.get(band).get(bandHash(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        if (excludedKey != null) {
+            candidates.remove(excludedKey);
+        }
+        
+        // Keep the best `limit` matches in a min-heap
+        PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::similarity));
+        for (String candidate : candidates) {
+            double similarity = similarity(signature, signatures.get(candidate));
+            if (similarity >= minSimilarity) {
+                best.offer(new Match(candidate, similarity));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches;
+    }
+    
+    public int size() {
+        return signatures.size();
+    }
+    
+    public void clear() {
+        signatures.clear();
+        buckets.forEach(Map::clear);
+    }
+    
+    int[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        
+        int[] signature = new int[hashCount];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        // Texts shorter than one shingle are a single shingle
+        int lastStart = Math.max(0, normalized.length() - SHINGLE_LENGTH);
+        for (int start = 0; start <= lastStart; start++) {
+            long shingle = hashShingle(normalized, start, Math.min(normalized.length(), start + SHINGLE_LENGTH));
+            for (int i = 0; i < hashCount; i++) {
+                // Universal hash a*x + b, keeping the top 31 bits
+                int value = (int) ((multipliers[i] * shingle + increments[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+    
+    static double similarity(int[] left, int[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NON_WORD.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+    
+    private long bandHash(int[] signature, int band) {
+        long hash = 1;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return hash;
+    }
+    
+    // FNV-1a over the shingle's characters, finished with the MurmurHash3 mixer
+    private static long hashShingle(String text, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+    
+    /**
+     * An indexed text with its estimated Jaccard similarity to the query
+     */
+    public record Match(String key, double similarity) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.claims.claims_service.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-key event counts over a sliding time window, kept in memory.
+ *
+ * The window is split into fixed-width buckets held in a ring of primitive ints per key, with a
+ * running total, so a count is a constant-time read once the ring has been advanced past the
+ * buckets that fell out of the window (each bucket is cleared at most once per lap). Counts are
+ * bucket-granular: an event drops out up to one bucket width before it is a full window old.
+ *
+ * Keys are spread over a fixed set of lock stripes, so updates to different keys rarely contend.
+ */
+public class SlidingWindowCounter {
+    
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+    private final Object[] stripes;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    
+    /**
+     * @param window the length of time counted
+     * @param bucketCount number of buckets the window is split into
+     * @param stripeCount number of lock stripes, rounded up to a power of two
+     * @param clock epoch-millisecond time source
+     */
+    public SlidingWindowCounter(Duration window, int bucketCount, int stripeCount, LongSupplier clock) {
+        if (bucketCount <= 0 || window.toMillis() < bucketCount) {
+            throw new IllegalArgumentException("Window must be at least one millisecond per bucket");
+        }
+        this.bucketCount = bucketCount;
+        this.bucketMillis = window.toMillis() / bucketCount;
+        this.clock = clock;
+        this.stripes = new Object[stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+    }
+    
+    /**
+     * Count one event for the key now
+     */
+    public void increment(String key) {
+        record(key, clock.getAsLong());
+    }
+    
+    /**
+     * Count one event for the key at the given time; events already outside the window are ignored
+     */
+    public void record(String key, long epochMillis) {
+        long bucket = Math.floorDiv(epochMillis, bucketMillis);
+        long current = currentBucket();
+        if (bucket <= current - bucketCount || bucket > current) {
+            return;
+        }
+        synchronized (stripeFor(key)) {
+            Window window = windows.computeIfAbsent(key, k -> new Window(bucketCount, current));
+            window.advance(current);
+            window.counts[(int) Math.floorMod(bucket, (long) bucketCount)]++;
+            window.total++;
+        }
+    }
+    
+    /**
+     * Events counted for the key within the window ending now
+     */
+    public int count(String key) {
+        Window window = windows.get(key);
+        if (window == null) {
+            return 0;
+        }
+        synchronized (stripeFor(key)) {
+            window.advance(currentBucket());
+            return window.total;
+        }
+    }
+    
+    /**
+     * Drop keys with no events left in the window
+     *
+     * @return the number of keys removed
+     */
+    public int evictIdle() {
+        long current = currentBucket();
+        int evicted = 0;
+        for (String key : windows.keySet()) {
+            synchronized (stripeFor(key)) {
+                Window window = windows.get(key);
+                if (window != null) {
+                    window.advance(current);
+                    if (window.total == 0) {
+                        windows.remove(key);
+                        evicted++;
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+    
+    public int size() {
+        return windows.size();
+    }
+    
+    public void clear() {
+        windows.clear();
+    }
+    
+    private long currentBucket() {
+        return Math.floorDiv(clock.getAsLong(), bucketMillis);
+    }
+    
+    private Object stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+    
+    // Guarded by the key's stripe
+    private static final class Window {
+        
+        private final int[] counts;
+        private long lastBucket;
+        private int total;
+        
+        Window(int bucketCount, long lastBucket) {
+            this.counts = new int[bucketCount];
+            this.lastBucket = lastBucket;
+        }
+        
+        // Clear the buckets that fell out of the window since the last update
+        void advance(long currentBucket) {
+            if (currentBucket <= lastBucket) {
+                return;
+            }
+            if (currentBucket - lastBucket >= counts.length) {
+                Arrays.fill(counts, 0);
+                total = 0;
+            } else {
+                for (long bucket = lastBucket + 1; bucket <= currentBucket; bucket++) {
+                    int slot = (int) Math.floorMod(bucket, (long) counts.length);
+                    total -= counts[slot];
+                    counts[slot] = 0;
+                }
+            }
+            lastBucket = currentBucket;
+        }
+    }
+}
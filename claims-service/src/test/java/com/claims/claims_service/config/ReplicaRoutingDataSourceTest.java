@@ -0,0 +1,155 @@
+package com.claims.claims_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests for ReplicaRoutingDataSource
+ * Runs against two separate in-memory H2 databases, each tagged with its role, so every
+ * assertion checks which database actually answered
+ */
+@DisplayName("ReplicaRoutingDataSource Routing Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+    private static final Instant NOW = Instant.parse("2024-10-01T12:00:00Z");
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        tracker = new ReadYourWritesTracker(WINDOW, Clock.fixed(NOW, ZoneOffset.UTC));
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), tracker);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+        primary.close();
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and writes to the primary")
+    void routesByReadOnlyFlag() {
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+        assertThat(readFrom(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should stamp the response of a write and keep that request's reads on the primary")
+    void stampsWriteResponse() {
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(response.getHeader(ReadYourWritesTracker.HEADER)).isEqualTo(Long.toString(NOW.toEpochMilli()));
+        assertThat(response.getCookie(ReadYourWritesTracker.COOKIE)).isNotNull();
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the request carries a fresh last-write stamp")
+    void honoursFreshStamp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesTracker.HEADER, Long.toString(NOW.minusSeconds(2).toEpochMilli()));
+        bindRequest(request);
+
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should accept the last-write stamp as a cookie")
+    void honoursStampCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+        bindRequest(request);
+
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should read from the replica once the stamp is older than the window")
+    void ignoresStaleStamp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesTracker.HEADER, Long.toString(NOW.minus(WINDOW).toEpochMilli()));
+        bindRequest(request);
+
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should keep an owner registered by a background writer on the primary")
+    void honoursRegisteredOwner() {
+        tracker.recordWrite("user-1");
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user-1", null, "ROLE_USER"));
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user-2", null, "ROLE_USER"));
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+    }
+
+    // The role of the database that served the transaction
+    private String readFrom(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT role FROM node", String.class));
+    }
+
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static HikariDataSource database(String role) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName("test-" + role);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (role VARCHAR(16), writes INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", role);
+        return dataSource;
+    }
+}
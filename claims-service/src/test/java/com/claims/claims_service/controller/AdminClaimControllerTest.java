@@ -1,10 +1,26 @@
 package com.claims.claims_service.controller;
 
+import com.claims.claims_service.dto.request.BulkClaimApprovalRequest;
 import com.claims.claims_service.dto.request.ClaimApprovalRequest;
 import com.claims.claims_service.dto.request.ClaimRejectionRequest;
+import com.claims.claims_service.dto.response.BulkClaimResult;
+import com.claims.claims_service.dto.response.BulkClaimTransitionResponse;
+import com.claims.claims_service.dto.response.ClaimDailyRollupResponse;
+import com.claims.claims_service.dto.response.ClaimLeaseResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSearchHit;
+import com.claims.claims_service.dto.response.ClaimSearchResponse;
+import com.claims.claims_service.dto.response.ClaimSimilarityHit;
+import com.claims.claims_service.dto.response.ClaimSimilarityResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.dto.response.CursorPageResponse;
 import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.service.ClaimDocumentService;
+import com.claims.claims_service.service.ClaimExportService;
+import com.claims.claims_service.service.ClaimRollupService;
+import com.claims.claims_service.service.ClaimSearchService;
 import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.ClaimSimilarityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +28,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +42,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +59,21 @@ class AdminClaimControllerTest {
     @Mock
     private ClaimService claimService;
 
+    @Mock
+    private ClaimExportService claimExportService;
+
+    @Mock
+    private ClaimDocumentService claimDocumentService;
+
+    @Mock
+    private ClaimSearchService claimSearchService;
+
+    @Mock
+    private ClaimRollupService claimRollupService;
+
+    @Mock
+    private ClaimSimilarityService claimSimilarityService;
+
     @Mock
     private Jwt jwt;
 
@@ -114,6 +149,28 @@ class AdminClaimControllerTest {
         verify(claimService, times(1)).getClaimsByStatus(status);
     }
 
+    @Test
+    @DisplayName("Should get claim summaries by status")
+    void getClaimSummariesByStatus_Success() {
+        // Given
+        Claim.ClaimStatus status = Claim.ClaimStatus.UNDER_REVIEW;
+        ClaimSummaryResponse summary = new ClaimSummaryResponse();
+        summary.setClaimNumber("CLM-12345678-ABCD1234");
+        summary.setStatus(status);
+        summary.setSeverity(Claim.Severity.HIGH);
+        when(claimService.getClaimSummariesByStatus(status)).thenReturn(List.of(summary));
+
+        // When
+        ResponseEntity<List<ClaimSummaryResponse>> response = adminClaimController.getClaimSummariesByStatus(status);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getStatus()).isEqualTo(Claim.ClaimStatus.UNDER_REVIEW);
+        
+        verify(claimService, times(1)).getClaimSummariesByStatus(status);
+    }
+
     @Test
     @DisplayName("Should move claim to under review")
     void moveToUnderReview_Success() {
@@ -135,6 +192,41 @@ class AdminClaimControllerTest {
         verify(claimService, times(1)).moveToUnderReview(claimNumber, adminUserId);
     }
 
+    @Test
+    @DisplayName("Should lease the next claim from the review queue")
+    void leaseNextClaim_Success() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+        when(jwt.getSubject()).thenReturn(adminUserId);
+        when(claimService.leaseNextClaim(adminUserId))
+                .thenReturn(Optional.of(new ClaimLeaseResponse(claimResponse, adminUserId, expiresAt)));
+
+        // When
+        ResponseEntity<ClaimLeaseResponse> response = adminClaimController.leaseNextClaim(jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getClaim().getClaimNumber()).isEqualTo(claimNumber);
+        assertThat(response.getBody().getLeasedBy()).isEqualTo(adminUserId);
+        assertThat(response.getBody().getLeaseExpiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should return no content when the review queue is empty")
+    void leaseNextClaim_EmptyQueue() {
+        // Given
+        when(jwt.getSubject()).thenReturn(adminUserId);
+        when(claimService.leaseNextClaim(adminUserId)).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<ClaimLeaseResponse> response = adminClaimController.leaseNextClaim(jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getBody()).isNull();
+    }
+
     @Test
     @DisplayName("Should approve a claim")
     void approveClaim_Success() {
@@ -349,4 +441,170 @@ class AdminClaimControllerTest {
         
         verify(claimService, times(1)).getClaimStatistics();
     }
+
+    @Test
+    @DisplayName("Should get a claims page with a cursor for the next page")
+    void getClaimsPage_Success() {
+        // Given
+        CursorPageResponse<ClaimResponse> page =
+                new CursorPageResponse<>(Arrays.asList(claimResponse), 1, "next-cursor", true);
+        when(claimService.getClaimsPage(null, 1)).thenReturn(page);
+
+        // When
+        ResponseEntity<CursorPageResponse<ClaimResponse>> response = adminClaimController.getClaimsPage(null, 1);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getItems()).hasSize(1);
+        assertThat(response.getBody().getNextCursor()).isEqualTo("next-cursor");
+        assertThat(response.getBody().isHasMore()).isTrue();
+        
+        verify(claimService, times(1)).getClaimsPage(null, 1);
+    }
+
+    @Test
+    @DisplayName("Should get the last claims page by status")
+    void getClaimsPageByStatus_LastPage() {
+        // Given
+        CursorPageResponse<ClaimResponse> page =
+                new CursorPageResponse<>(Arrays.asList(claimResponse), 1, null, false);
+        when(claimService.getClaimsPageByStatus(Claim.ClaimStatus.SUBMITTED, "cursor", null)).thenReturn(page);
+
+        // When
+        ResponseEntity<CursorPageResponse<ClaimResponse>> response =
+                adminClaimController.getClaimsPageByStatus(Claim.ClaimStatus.SUBMITTED, "cursor", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getNextCursor()).isNull();
+        assertThat(response.getBody().isHasMore()).isFalse();
+        
+        verify(claimService, times(1)).getClaimsPageByStatus(Claim.ClaimStatus.SUBMITTED, "cursor", null);
+    }
+
+    @Test
+    @DisplayName("Should return ranked search hits")
+    void searchClaims_Success() {
+        // Given
+        ClaimSummaryResponse summary = new ClaimSummaryResponse();
+        summary.setClaimNumber("CLM-12345678-ABCD1234");
+        summary.setPolicyType(Claim.PolicyType.HOUSE);
+        ClaimSearchResponse results = new ClaimSearchResponse(
+                "flooded basement", 1, List.of(new ClaimSearchHit(2.5, summary)));
+        when(claimSearchService.searchClaims("flooded basement", null, Claim.PolicyType.HOUSE, null, null, null))
+                .thenReturn(results);
+
+        // When
+        ResponseEntity<ClaimSearchResponse> response = adminClaimController.searchClaims(
+                "flooded basement", null, Claim.PolicyType.HOUSE, null, null, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getHits()).hasSize(1);
+        assertThat(response.getBody().getHits().get(0).getClaim().getClaimNumber()).isEqualTo("CLM-12345678-ABCD1234");
+        
+        verify(claimSearchService, times(1))
+                .searchClaims("flooded basement", null, Claim.PolicyType.HOUSE, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should return similar claims with similarity scores")
+    void findSimilarClaims_Success() {
+        // Given
+        ClaimSummaryResponse summary = new ClaimSummaryResponse();
+        summary.setClaimNumber("CLM-87654321-DCBA4321");
+        summary.setPolicyNumber("HOUSE-2024-077");
+        ClaimSimilarityResponse similar = new ClaimSimilarityResponse(
+                claimNumber, 1, List.of(new ClaimSimilarityHit(0.86, summary)));
+        when(claimSimilarityService.findSimilarClaims(claimNumber, 0.8, null)).thenReturn(similar);
+
+        // When
+        ResponseEntity<ClaimSimilarityResponse> response =
+                adminClaimController.findSimilarClaims(claimNumber, 0.8, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getHits()).hasSize(1);
+        assertThat(response.getBody().getHits().get(0).getSimilarity()).isEqualTo(0.86);
+        assertThat(response.getBody().getHits().get(0).getClaim().getClaimNumber()).isEqualTo("CLM-87654321-DCBA4321");
+        
+        verify(claimSimilarityService, times(1)).findSimilarClaims(claimNumber, 0.8, null);
+    }
+
+    @Test
+    @DisplayName("Should return daily rollups for a date range")
+    void getDailyRollups_Success() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        ClaimDailyRollupResponse rollup = new ClaimDailyRollupResponse(LocalDate.of(2025, 1, 15),
+                Claim.PolicyType.HOUSE, Claim.ClaimType.WATER_DAMAGE_CLAIM, Claim.ClaimStatus.APPROVED,
+                3, new BigDecimal("4500.00"), new BigDecimal("4200.00"));
+        when(claimRollupService.getDailyRollups(from, to, Claim.PolicyType.HOUSE, null, null))
+                .thenReturn(List.of(rollup));
+
+        // When
+        ResponseEntity<List<ClaimDailyRollupResponse>> response =
+                adminClaimController.getDailyRollups(from, to, Claim.PolicyType.HOUSE, null, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getClaimCount()).isEqualTo(3);
+        assertThat(response.getBody().get(0).getApprovedAmount()).isEqualByComparingTo("4200.00");
+        
+        verify(claimRollupService, times(1)).getDailyRollups(from, to, Claim.PolicyType.HOUSE, null, null);
+    }
+
+    @Test
+    @DisplayName("Should stream a CSV export through the export service")
+    void exportClaims_Csv() throws Exception {
+        // Given
+        when(claimExportService.exportClaims(eq(ClaimExportService.ExportFormat.CSV), isNull(), any()))
+                .thenReturn(2L);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response =
+                adminClaimController.exportClaims(ClaimExportService.ExportFormat.CSV, null);
+        response.getBody().writeTo(new ByteArrayOutputStream());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("text/csv");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("claims.csv");
+        
+        verify(claimExportService, times(1)).exportClaims(eq(ClaimExportService.ExportFormat.CSV), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("Should report per-claim results for a bulk approval")
+    void bulkApproveClaims_PartialSuccess() {
+        // Given
+        when(jwt.getSubject()).thenReturn(adminUserId);
+        ClaimApprovalRequest first = new ClaimApprovalRequest(claimNumber, new BigDecimal("4500.00"), null);
+        ClaimApprovalRequest second = new ClaimApprovalRequest("CLM-MISSING", new BigDecimal("100.00"), null);
+        BulkClaimApprovalRequest request = new BulkClaimApprovalRequest(Arrays.asList(first, second));
+        
+        BulkClaimTransitionResponse bulkResponse = new BulkClaimTransitionResponse(2, 1, 1, Arrays.asList(
+                BulkClaimResult.success(claimNumber, Claim.ClaimStatus.APPROVED),
+                BulkClaimResult.failure("CLM-MISSING", "Claim not found with number: CLM-MISSING")));
+        when(claimService.bulkApproveClaims(request.getApprovals(), adminUserId)).thenReturn(bulkResponse);
+
+        // When
+        ResponseEntity<BulkClaimTransitionResponse> response = adminClaimController.bulkApproveClaims(request, jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getSucceeded()).isEqualTo(1);
+        assertThat(response.getBody().getFailed()).isEqualTo(1);
+        assertThat(response.getBody().getResults().get(0).isSuccess()).isTrue();
+        assertThat(response.getBody().getResults().get(1).getError()).contains("not found");
+        
+        verify(claimService, times(1)).bulkApproveClaims(request.getApprovals(), adminUserId);
+    }
 }
@@ -1,9 +1,13 @@
 package com.claims.claims_service.controller;
 
 import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimIntakeResponse;
 import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
 import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.service.ClaimIntakeService;
 import com.claims.claims_service.service.ClaimService;
+import com.claims.claims_service.service.IdempotentClaimSubmissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,12 @@ class ClaimControllerTest {
     @Mock
     private ClaimService claimService;
 
+    @Mock
+    private ClaimIntakeService claimIntakeService;
+
+    @Mock
+    private IdempotentClaimSubmissionService idempotentClaimSubmissionService;
+
     @Mock
     private Jwt jwt;
 
@@ -90,7 +100,7 @@ class ClaimControllerTest {
                 .thenReturn(claimResponse);
 
         // When
-        ResponseEntity<ClaimResponse> response = claimController.submitClaim(claimRequest, jwt);
+        ResponseEntity<ClaimResponse> response = claimController.submitClaim(claimRequest, null, jwt);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -101,6 +111,49 @@ class ClaimControllerTest {
         verify(claimService, times(1)).submitClaim(any(ClaimRequest.class), eq(userId));
     }
 
+    @Test
+    @DisplayName("Should submit through the idempotency service when an Idempotency-Key is sent")
+    void submitClaim_WithIdempotencyKey() {
+        // Given
+        String idempotencyKey = "5f0c7d1e-3b9a-4f7e-8c2d-1a6b9e0f4d3c";
+        when(idempotentClaimSubmissionService.submitClaim(any(ClaimRequest.class), eq(userId), eq(idempotencyKey)))
+                .thenReturn(claimResponse);
+
+        // When
+        ResponseEntity<ClaimResponse> response = claimController.submitClaim(claimRequest, idempotencyKey, jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getClaimNumber()).isEqualTo("CLM-12345678-ABCD1234");
+        
+        verify(idempotentClaimSubmissionService, times(1))
+                .submitClaim(any(ClaimRequest.class), eq(userId), eq(idempotencyKey));
+        verify(claimService, never()).submitClaim(any(ClaimRequest.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should queue a claim and return 202 with its claim number")
+    void enqueueClaim_Accepted() {
+        // Given
+        when(claimIntakeService.enqueueClaim(any(ClaimRequest.class), eq(userId)))
+                .thenReturn(new ClaimIntakeResponse("CLM-12345678-ABCD1234",
+                        ClaimIntakeResponse.IntakeStatus.QUEUED, null, null));
+
+        // When
+        ResponseEntity<ClaimIntakeResponse> response = claimController.enqueueClaim(claimRequest, jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation())
+                .hasToString("/api/claims/intake/CLM-12345678-ABCD1234");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getIntakeStatus()).isEqualTo(ClaimIntakeResponse.IntakeStatus.QUEUED);
+        
+        verify(claimIntakeService, times(1)).enqueueClaim(any(ClaimRequest.class), eq(userId));
+        verify(claimService, never()).submitClaim(any(ClaimRequest.class), anyString());
+    }
+
     @Test
     @DisplayName("Should get all claims for the authenticated user")
     void getMyClaims_Success() {
@@ -116,7 +169,7 @@ class ClaimControllerTest {
         when(claimService.getMyMyClaims(userId)).thenReturn(claims);
 
         // When
-        ResponseEntity<List<ClaimResponse>> response = claimController.getMyClaims(jwt);
+        ResponseEntity<List<ClaimResponse>> response = claimController.getMyClaims(null, jwt);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -128,6 +181,45 @@ class ClaimControllerTest {
         verify(claimService, times(1)).getMyMyClaims(userId);
     }
 
+    @Test
+    @DisplayName("Should get claim summaries for the authenticated user")
+    void getMyClaimSummaries_Success() {
+        // Given
+        ClaimSummaryResponse summary = new ClaimSummaryResponse();
+        summary.setId(1L);
+        summary.setClaimNumber("CLM-12345678-ABCD1234");
+        summary.setStatus(Claim.ClaimStatus.SUBMITTED);
+        summary.setClaimedAmount(new BigDecimal("5000.00"));
+        when(claimService.getMyClaimSummaries(userId)).thenReturn(List.of(summary));
+
+        // When
+        ResponseEntity<List<ClaimSummaryResponse>> response = claimController.getMyClaimSummaries(jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getClaimNumber()).isEqualTo("CLM-12345678-ABCD1234");
+        
+        verify(claimService, times(1)).getMyClaimSummaries(userId);
+    }
+
+    @Test
+    @DisplayName("Should return 304 when the user's claims have not changed")
+    void getMyClaims_NotModified() {
+        // Given
+        when(claimService.getMyClaimsVersion(userId)).thenReturn("2-5");
+
+        // When
+        ResponseEntity<List<ClaimResponse>> response = claimController.getMyClaims("W/\"2-5\"", jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"2-5\"");
+        
+        verify(claimService, never()).getMyMyClaims(anyString());
+    }
+
     @Test
     @DisplayName("Should get claim by claim number")
     void getClaimByNumber_Success() {
@@ -136,7 +228,7 @@ class ClaimControllerTest {
         when(claimService.getClaimByNumber(claimNumber, userId)).thenReturn(claimResponse);
 
         // When
-        ResponseEntity<ClaimResponse> response = claimController.getClaimByNumber(claimNumber, jwt);
+        ResponseEntity<ClaimResponse> response = claimController.getClaimByNumber(claimNumber, null, jwt);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -232,7 +324,7 @@ class ClaimControllerTest {
         when(claimService.getMyMyClaims(userId)).thenReturn(Arrays.asList());
 
         // When
-        ResponseEntity<List<ClaimResponse>> response = claimController.getMyClaims(jwt);
+        ResponseEntity<List<ClaimResponse>> response = claimController.getMyClaims(null, jwt);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
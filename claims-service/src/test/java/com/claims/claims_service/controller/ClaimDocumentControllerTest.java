@@ -0,0 +1,151 @@
+package com.claims.claims_service.controller;
+
+import com.claims.claims_service.dto.response.ClaimDocumentResponse;
+import com.claims.claims_service.service.ClaimDocumentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimDocumentController
+ * Tests document upload and (ranged) download
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimDocumentController Unit Tests")
+class ClaimDocumentControllerTest {
+
+    @Mock
+    private ClaimDocumentService claimDocumentService;
+
+    @Mock
+    private Jwt jwt;
+
+    @InjectMocks
+    private ClaimDocumentController claimDocumentController;
+
+    @TempDir
+    Path tempDir;
+
+    private String userId;
+    private String claimNumber;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-123";
+        claimNumber = "CLM-0K5Z3M8Q2R4T6";
+        
+        when(jwt.getSubject()).thenReturn(userId);
+    }
+
+    @Test
+    @DisplayName("Should upload a claim document")
+    void uploadDocument_Success() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "bumper.jpg", "image/jpeg", "jpeg-bytes".getBytes(StandardCharsets.UTF_8));
+        ClaimDocumentResponse stored = new ClaimDocumentResponse(
+                7L, claimNumber, "bumper.jpg", "image/jpeg", 10L, "ab12", userId, LocalDateTime.now());
+        when(claimDocumentService.uploadDocument(claimNumber, file, userId)).thenReturn(stored);
+
+        // When
+        ResponseEntity<ClaimDocumentResponse> response = claimDocumentController.uploadDocument(claimNumber, file, jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getId()).isEqualTo(7L);
+        
+        verify(claimDocumentService, times(1)).uploadDocument(claimNumber, file, userId);
+    }
+
+    @Test
+    @DisplayName("Should delete a claim document")
+    void deleteDocument_Success() {
+        // When
+        ResponseEntity<Void> response = claimDocumentController.deleteDocument(claimNumber, 7L, jwt);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        
+        verify(claimDocumentService, times(1)).deleteDocument(claimNumber, 7L, userId);
+    }
+
+    @Test
+    @DisplayName("Should download the whole document")
+    void downloadDocument_Full() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("doc"), "0123456789");
+        when(claimDocumentService.getDocumentFile(claimNumber, 7L, userId))
+                .thenReturn(new ClaimDocumentService.DocumentFile(file, "report.pdf", "application/pdf", 10L));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        claimDocumentController.downloadDocument(claimNumber, 7L, jwt, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("report.pdf");
+    }
+
+    @Test
+    @DisplayName("Should download a byte range of the document")
+    void downloadDocument_Range() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("doc"), "0123456789");
+        when(claimDocumentService.getDocumentFile(claimNumber, 7L, userId))
+                .thenReturn(new ClaimDocumentService.DocumentFile(file, "report.pdf", "application/pdf", 10L));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        claimDocumentController.downloadDocument(claimNumber, 7L, jwt, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    }
+
+    @Test
+    @DisplayName("Should reject a range beyond the end of the document")
+    void downloadDocument_RangeNotSatisfiable() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("doc"), "0123456789");
+        when(claimDocumentService.getDocumentFile(claimNumber, 7L, userId))
+                .thenReturn(new ClaimDocumentService.DocumentFile(file, "report.pdf", "application/pdf", 10L));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        claimDocumentController.downloadDocument(claimNumber, 7L, jwt, request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+}
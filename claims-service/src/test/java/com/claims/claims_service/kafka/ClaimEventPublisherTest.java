@@ -0,0 +1,181 @@
+package com.claims.claims_service.kafka;
+
+import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimEventPublisher
+ * Broker acknowledgements are simulated by completing the futures the mocked template returns
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimEventPublisher Unit Tests")
+class ClaimEventPublisherTest {
+
+    private static final String TOPIC = "claim-status-changed-events";
+
+    @Mock
+    private KafkaTemplate<String, ClaimStatusChangedEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimEventPublisher publisher;
+    private final List<CompletableFuture<SendResult<String, ClaimStatusChangedEvent>>> acks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new ClaimEventPublisher(kafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "topic", TOPIC);
+        ReflectionTestUtils.setField(publisher, "maxInFlight", 2);
+        ReflectionTestUtils.setField(publisher, "enqueueTimeoutMs", 10L);
+        publisher.initMetrics();
+    }
+
+    @Test
+    @DisplayName("Should hand every event to the producer without waiting for earlier acknowledgements")
+    void publish_DoesNotWaitForAcks() {
+        // Given
+        stubPendingSends();
+
+        // When
+        CompletableFuture<?> first = publisher.publishClaimStatusChanged(event("CLM-1"));
+        CompletableFuture<?> second = publisher.publishClaimStatusChanged(event("CLM-2"));
+
+        // Then: both are with the producer, to be batched together, and neither is acknowledged yet
+        verify(kafkaTemplate).send(TOPIC, "CLM-1", event("CLM-1"));
+        verify(kafkaTemplate).send(TOPIC, "CLM-2", event("CLM-2"));
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        assertThat(inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ship producer settings that batch and compress sends")
+    void shippedConfig_BatchesSends() throws IOException {
+        // When
+        ResourcePropertySource config = new ResourcePropertySource(
+                new FileSystemResource("../config-repo/claims-service.properties"));
+
+        // Then
+        assertThat(Integer.parseInt((String) config.getProperty("spring.kafka.producer.properties.linger.ms"))).isPositive();
+        assertThat(Integer.parseInt((String) config.getProperty("spring.kafka.producer.batch-size"))).isGreaterThan(16384);
+        assertThat(config.getProperty("spring.kafka.producer.compression-type")).isNotEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("Should reject a send once too many are awaiting acknowledgement")
+    void publish_RejectsWhenBacklogFull() {
+        // Given
+        stubPendingSends();
+        publisher.publishClaimStatusChanged(event("CLM-1"));
+        publisher.publishClaimStatusChanged(event("CLM-2"));
+
+        // When
+        CompletableFuture<?> rejected = publisher.publishClaimStatusChanged(event("CLM-3"));
+
+        // Then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        verify(kafkaTemplate, never()).send(anyString(), eq("CLM-3"), any());
+        assertThat(meterRegistry.counter("claims.kafka.publish.rejected", "topic", TOPIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free a slot and time the send once the broker acknowledges it")
+    void publish_AckReleasesSlot() {
+        // Given
+        stubPendingSends();
+        publisher.publishClaimStatusChanged(event("CLM-1"));
+        publisher.publishClaimStatusChanged(event("CLM-2"));
+
+        // When
+        acks.get(0).complete(sendResult(event("CLM-1")));
+        CompletableFuture<?> third = publisher.publishClaimStatusChanged(event("CLM-3"));
+
+        // Then
+        assertThat(third).isNotCompletedExceptionally();
+        verify(kafkaTemplate).send(TOPIC, "CLM-3", event("CLM-3"));
+        assertThat(meterRegistry.timer("claims.kafka.publish", "topic", TOPIC, "outcome", "success").count()).isEqualTo(1);
+        assertThat(inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should free the slot and count the failure when the broker rejects a send")
+    void publish_FailureReleasesSlot() {
+        // Given
+        stubPendingSends();
+        CompletableFuture<?> sent = publisher.publishClaimStatusChanged(event("CLM-1"));
+
+        // When
+        acks.get(0).completeExceptionally(new TimeoutException("delivery timeout"));
+
+        // Then
+        assertThat(sent).isCompletedExceptionally();
+        assertThat(inFlight()).isZero();
+        assertThat(meterRegistry.timer("claims.kafka.publish", "topic", TOPIC, "outcome", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("claims.kafka.publish.failures",
+                "topic", TOPIC, "exception", "TimeoutException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free the slot when the producer throws before sending")
+    void publish_SendThrowsReleasesSlot() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new TimeoutException("metadata"));
+
+        // When
+        CompletableFuture<?> sent = publisher.publishClaimStatusChanged(event("CLM-1"));
+
+        // Then
+        assertThat(sent).isCompletedExceptionally();
+        assertThat(inFlight()).isZero();
+    }
+
+    private void stubPendingSends() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, ClaimStatusChangedEvent>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        });
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("claims.kafka.publish.in-flight").gauge().value();
+    }
+
+    private static ClaimStatusChangedEvent event(String claimNumber) {
+        return new ClaimStatusChangedEvent(claimNumber, "SUBMITTED", "APPROVED", "user-1", "user@example.com",
+                LocalDateTime.of(2026, 10, 1, 9, 30), "admin", null);
+    }
+
+    private static SendResult<String, ClaimStatusChangedEvent> sendResult(ClaimStatusChangedEvent event) {
+        return new SendResult<>(new ProducerRecord<>(TOPIC, event.getClaimNumber(), event),
+                new RecordMetadata(new TopicPartition(TOPIC, 0), 42L, 0, 0L, 0, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.claims.claims_service.kafka;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimSlaEscalationPublisher
+ * Sends go through a real ClaimEventPublisher so the shared bound and metrics are exercised
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimSlaEscalationPublisher Unit Tests")
+class ClaimSlaEscalationPublisherTest {
+
+    private static final String STATUS_TOPIC = "claim-status-changed-events";
+    private static final String ESCALATION_TOPIC = "claim-sla-escalation-events";
+
+    @Mock
+    private KafkaTemplate<String, ClaimStatusChangedEvent> statusTemplate;
+
+    @Mock
+    private KafkaTemplate<String, ClaimSlaEscalationEvent> escalationTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimEventPublisher claimEventPublisher;
+    private ClaimSlaEscalationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimEventPublisher = new ClaimEventPublisher(statusTemplate, meterRegistry);
+        ReflectionTestUtils.setField(claimEventPublisher, "topic", STATUS_TOPIC);
+        ReflectionTestUtils.setField(claimEventPublisher, "maxInFlight", 1);
+        ReflectionTestUtils.setField(claimEventPublisher, "enqueueTimeoutMs", 10L);
+        claimEventPublisher.initMetrics();
+
+        publisher = new ClaimSlaEscalationPublisher(escalationTemplate, claimEventPublisher);
+        ReflectionTestUtils.setField(publisher, "topic", ESCALATION_TOPIC);
+    }
+
+    @Test
+    @DisplayName("Should time and count a failed escalation under its own topic")
+    void publish_RecordsFailure() {
+        // Given
+        when(escalationTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("delivery timeout")));
+
+        // When
+        CompletableFuture<SendResult<String, ClaimSlaEscalationEvent>> sent = publisher.publish(escalation());
+
+        // Then
+        assertThat(sent).isCompletedExceptionally();
+        verify(escalationTemplate).send(ESCALATION_TOPIC, "CLM-1", escalation());
+        assertThat(meterRegistry.timer("claims.kafka.publish",
+                "topic", ESCALATION_TOPIC, "outcome", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("claims.kafka.publish.failures",
+                "topic", ESCALATION_TOPIC, "exception", "TimeoutException").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("claims.kafka.publish.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject an escalation while status events fill the shared in-flight bound")
+    void publish_SharesBackpressure() {
+        // Given: the only slot is held by an unacknowledged status change
+        when(statusTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        ClaimStatusChangedEvent statusChange = new ClaimStatusChangedEvent();
+        statusChange.setClaimNumber("CLM-2");
+        claimEventPublisher.publishClaimStatusChanged(statusChange);
+
+        // When
+        CompletableFuture<SendResult<String, ClaimSlaEscalationEvent>> rejected = publisher.publish(escalation());
+
+        // Then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        verifyNoInteractions(escalationTemplate);
+        assertThat(meterRegistry.counter("claims.kafka.publish.rejected", "topic", ESCALATION_TOPIC).count())
+                .isEqualTo(1);
+    }
+
+    private static ClaimSlaEscalationEvent escalation() {
+        LocalDateTime since = LocalDateTime.of(2026, 10, 1, 9, 30);
+        return new ClaimSlaEscalationEvent("CLM-1", "SUBMITTED", "user-1", since, since.plusHours(48),
+                since.plusHours(49));
+    }
+}
@@ -0,0 +1,50 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.model.ClaimJobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository tests for ClaimJobLockRepository
+ * Runs each lock query against an embedded database, so a lock mode the dialect cannot render
+ * fails here rather than in the rollup job
+ */
+@DataJpaTest
+@DisplayName("ClaimJobLockRepository Lock Tests")
+class ClaimJobLockRepositoryTest {
+
+    @Autowired
+    private ClaimJobLockRepository claimJobLockRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        ClaimJobLock lock = new ClaimJobLock();
+        lock.setName("job");
+        entityManager.persistAndFlush(lock);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should lock a named job row exclusively, with or without waiting")
+    void lockExclusive() {
+        assertThat(claimJobLockRepository.lockByName("job")).isPresent();
+        assertThat(claimJobLockRepository.tryLockByName("job")).isPresent();
+        assertThat(claimJobLockRepository.lockByName("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should lock a named job row shared")
+    void lockShared() {
+        assertThat(claimJobLockRepository.existsByName("job")).isTrue();
+        assertThat(claimJobLockRepository.lockSharedByName("job")).isPresent();
+    }
+}
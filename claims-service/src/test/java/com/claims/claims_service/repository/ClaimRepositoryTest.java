@@ -0,0 +1,120 @@
+package com.claims.claims_service.repository;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.dto.response.ClaimSummaryResponse;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.projection.ClaimListStamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository tests for ClaimRepository
+ * Runs the DTO projection queries against an embedded database, so a projection that no longer
+ * matches its DTO's constructor fails here rather than at application startup
+ */
+@DataJpaTest
+@DisplayName("ClaimRepository Projection Tests")
+class ClaimRepositoryTest {
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Claim older;
+    private Claim newer;
+
+    @BeforeEach
+    void setUp() {
+        older = entityManager.persist(claim("CLM-1", "user-1", LocalDateTime.of(2024, 10, 1, 9, 0)));
+        newer = entityManager.persist(claim("CLM-2", "user-1", LocalDateTime.of(2024, 10, 2, 9, 0)));
+        entityManager.persist(claim("CLM-3", "user-2", LocalDateTime.of(2024, 10, 3, 9, 0)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should project a user's claims into ClaimResponse, newest first, with version")
+    void findResponsesByKeycloakUserId() {
+        List<ClaimResponse> responses = claimRepository.findResponsesByKeycloakUserId("user-1");
+
+        assertThat(responses).extracting(ClaimResponse::getClaimNumber).containsExactly("CLM-2", "CLM-1");
+        ClaimResponse first = responses.get(0);
+        assertThat(first.getId()).isEqualTo(newer.getId());
+        assertThat(first.getPolicyNumber()).isEqualTo("CAR-2024-001");
+        assertThat(first.getStatus()).isEqualTo(Claim.ClaimStatus.SUBMITTED);
+        assertThat(first.getClaimedAmount()).isEqualByComparingTo("5000.00");
+        assertThat(first.getDescription()).isEqualTo("Car accident on highway");
+        assertThat(first.getCreatedAt()).isNotNull();
+        assertThat(first.getVersion()).isEqualTo(newer.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should stream every claim as ClaimResponse in id order")
+    void streamAll() {
+        try (Stream<ClaimResponse> rows = claimRepository.streamAll()) {
+            assertThat(rows.map(ClaimResponse::getClaimNumber)).containsExactly("CLM-1", "CLM-2", "CLM-3");
+        }
+    }
+
+    @Test
+    @DisplayName("Should page through claims with the keyset projection queries")
+    void keysetPages() {
+        List<ClaimResponse> firstPage = claimRepository.findFirstPage(PageRequest.ofSize(2));
+        assertThat(firstPage).extracting(ClaimResponse::getClaimNumber).containsExactly("CLM-3", "CLM-2");
+
+        ClaimResponse last = firstPage.get(firstPage.size() - 1);
+        List<ClaimResponse> nextPage = claimRepository.findPageAfter(
+                last.getSubmittedDate(), last.getId(), PageRequest.ofSize(2));
+        assertThat(nextPage).extracting(ClaimResponse::getClaimNumber).containsExactly("CLM-1");
+
+        assertThat(claimRepository.findFirstPageByStatus(Claim.ClaimStatus.SUBMITTED, PageRequest.ofSize(5)))
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should project claim summaries")
+    void findSummaries() {
+        List<ClaimSummaryResponse> summaries = claimRepository.findSummariesByKeycloakUserId("user-1");
+
+        assertThat(summaries).extracting(ClaimSummaryResponse::getClaimNumber).containsExactly("CLM-2", "CLM-1");
+        assertThat(claimRepository.findSummariesByClaimNumberIn(List.of("CLM-1", "CLM-3"))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should stamp a user's claim list with its count and version sum")
+    void findListStampByKeycloakUserId() {
+        ClaimListStamp stamp = claimRepository.findListStampByKeycloakUserId("user-1");
+
+        assertThat(stamp.getTotal()).isEqualTo(2L);
+        assertThat(stamp.getVersionSum()).isEqualTo(older.getVersion() + newer.getVersion());
+    }
+
+    private static Claim claim(String claimNumber, String userId, LocalDateTime submittedDate) {
+        Claim claim = new Claim();
+        claim.setClaimNumber(claimNumber);
+        claim.setPolicyNumber("CAR-2024-001");
+        claim.setPolicyType(Claim.PolicyType.CAR);
+        claim.setKeycloakUserId(userId);
+        claim.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        claim.setIncidentDate(LocalDate.of(2024, 9, 30));
+        claim.setSubmittedDate(submittedDate);
+        claim.setClaimedAmount(new BigDecimal("5000.00"));
+        claim.setDescription("Car accident on highway");
+        return claim;
+    }
+}
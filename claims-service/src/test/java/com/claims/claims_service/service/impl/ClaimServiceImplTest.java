@@ -0,0 +1,177 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.request.ClaimApprovalRequest;
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.event.ClaimStatusChangedEvent;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.exception.InvalidClaimOperationException;
+import com.claims.claims_service.kafka.ClaimEventOutbox;
+import com.claims.claims_service.mapper.ClaimMapper;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimServiceImpl
+ * Covers the guarded single-claim transitions: a conditional update that matched no row is
+ * reported as a rule violation when the claim is in the wrong status, and as a conflict when
+ * another request changed it first
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimServiceImpl Unit Tests")
+class ClaimServiceImplTest {
+
+    private static final String CLAIM_NUMBER = "CLM-0K5Z3M8Q2R4T6";
+    private static final String USER_ID = "user-123";
+    private static final String ADMIN_ID = "admin-1";
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ClaimMapper claimMapper;
+
+    @Mock
+    private ClaimEventOutbox claimEventOutbox;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private ClaimServiceImpl claimService;
+
+    @Test
+    @DisplayName("Should cancel with one read and one update guarded on the status and version read")
+    void cancelClaim_Success() {
+        // Given
+        Claim claim = claim(Claim.ClaimStatus.UNDER_REVIEW, 3L);
+        ClaimResponse response = new ClaimResponse();
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(claim));
+        when(claimRepository.markCancelled(eq(CLAIM_NUMBER), eq(USER_ID), eq(Claim.ClaimStatus.UNDER_REVIEW), eq(3L),
+                eq(Claim.ClaimStatus.CANCELLED), any())).thenReturn(1);
+        when(claimMapper.toResponse(claim)).thenReturn(response);
+
+        // When
+        ClaimResponse result = claimService.cancelClaim(CLAIM_NUMBER, USER_ID);
+
+        // Then
+        assertThat(result).isSameAs(response);
+        assertThat(claim.getStatus()).isEqualTo(Claim.ClaimStatus.CANCELLED);
+        assertThat(claim.getVersion()).isEqualTo(4L);
+        verify(claimRepository, times(1)).findByClaimNumber(CLAIM_NUMBER);
+
+        ArgumentCaptor<ClaimTransitionEvent> event = ArgumentCaptor.forClass(ClaimTransitionEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(Claim.ClaimStatus.UNDER_REVIEW);
+        assertThat(event.getValue().getNewStatus()).isEqualTo(Claim.ClaimStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should report a conflict without re-reading when a cancel loses the race")
+    void cancelClaim_LostRace() {
+        // Given
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(claim(Claim.ClaimStatus.SUBMITTED, 3L)));
+        when(claimRepository.markCancelled(any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When / Then
+        assertThatThrownBy(() -> claimService.cancelClaim(CLAIM_NUMBER, USER_ID))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(claimRepository, times(1)).findByClaimNumber(CLAIM_NUMBER);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should refuse to cancel another user's claim without updating it")
+    void cancelClaim_NotOwner() {
+        // Given
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(claim(Claim.ClaimStatus.SUBMITTED, 3L)));
+
+        // When / Then
+        assertThatThrownBy(() -> claimService.cancelClaim(CLAIM_NUMBER, "someone-else"))
+                .isInstanceOf(InvalidClaimOperationException.class);
+        verify(claimRepository, never()).markCancelled(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report a conflict when an approval loses the race to a concurrent change")
+    void approveClaim_LostRace() {
+        // Given: no row matched, yet the claim is still UNDER_REVIEW, so another request changed it in between
+        when(claimRepository.markApproved(eq(CLAIM_NUMBER), eq(Claim.ClaimStatus.UNDER_REVIEW), eq(Claim.ClaimStatus.APPROVED),
+                any(), any(), eq(ADMIN_ID), any(), any())).thenReturn(0);
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(claim(Claim.ClaimStatus.UNDER_REVIEW, 5L)));
+
+        // When / Then
+        assertThatThrownBy(() -> claimService.approveClaim(approval(), ADMIN_ID))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(claimEventOutbox, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject an approval of a claim that is not under review")
+    void approveClaim_WrongStatus() {
+        // Given
+        when(claimRepository.markApproved(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(claim(Claim.ClaimStatus.SUBMITTED, 5L)));
+
+        // When / Then
+        assertThatThrownBy(() -> claimService.approveClaim(approval(), ADMIN_ID))
+                .isInstanceOf(InvalidClaimOperationException.class)
+                .hasMessageContaining("UNDER_REVIEW");
+        verifyNoInteractions(claimEventOutbox, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should publish and record an approval once its guarded update matched")
+    void approveClaim_Success() {
+        // Given
+        Claim approved = claim(Claim.ClaimStatus.APPROVED, 6L);
+        when(claimRepository.markApproved(any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        when(claimRepository.findByClaimNumber(CLAIM_NUMBER)).thenReturn(Optional.of(approved));
+        when(claimMapper.toResponse(approved)).thenReturn(new ClaimResponse());
+
+        // When
+        claimService.approveClaim(approval(), ADMIN_ID);
+
+        // Then
+        verify(applicationEventPublisher).publishEvent(any(ClaimTransitionEvent.class));
+        ArgumentCaptor<ClaimStatusChangedEvent> event = ArgumentCaptor.forClass(ClaimStatusChangedEvent.class);
+        verify(claimEventOutbox).enqueue(event.capture());
+        assertThat(event.getValue().getOldStatus()).isEqualTo("UNDER_REVIEW");
+        assertThat(event.getValue().getNewStatus()).isEqualTo("APPROVED");
+    }
+
+    private static ClaimApprovalRequest approval() {
+        return new ClaimApprovalRequest(CLAIM_NUMBER, new BigDecimal("4500.00"), "Approved");
+    }
+
+    private static Claim claim(Claim.ClaimStatus status, Long version) {
+        Claim claim = new Claim();
+        claim.setClaimNumber(CLAIM_NUMBER);
+        claim.setKeycloakUserId(USER_ID);
+        claim.setPolicyNumber("CAR-2024-001");
+        claim.setPolicyType(Claim.PolicyType.CAR);
+        claim.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        claim.setIncidentDate(LocalDate.of(2024, 9, 30));
+        claim.setClaimedAmount(new BigDecimal("5000.00"));
+        claim.setStatus(status);
+        claim.setVersion(version);
+        return claim;
+    }
+}
@@ -0,0 +1,205 @@
+package com.claims.claims_service.service.impl;
+
+import com.claims.claims_service.dto.request.ClaimRequest;
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.exception.GlobalExceptionHandler;
+import com.claims.claims_service.exception.IdempotencyKeyMismatchException;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.model.ClaimIdempotencyKey;
+import com.claims.claims_service.repository.ClaimIdempotencyKeyRepository;
+import com.claims.claims_service.service.ClaimService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotentClaimSubmissionServiceImpl
+ * Covers replays from the cache and from the key table, coalescing of concurrent requests with
+ * the same key, and a key reused for a different request
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentClaimSubmissionServiceImpl Unit Tests")
+class IdempotentClaimSubmissionServiceImplTest {
+
+    private static final String USER_ID = "user-123";
+    private static final String KEY = "key-1";
+
+    @Mock
+    private ClaimService claimService;
+
+    @Mock
+    private ClaimIdempotencyKeyRepository claimIdempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotentClaimSubmissionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotentClaimSubmissionServiceImpl(
+                claimService, claimIdempotencyKeyRepository, objectMapper, transactionManager, 100, 24);
+    }
+
+    @Test
+    @DisplayName("Should replay the first response for a repeated key without submitting again")
+    void submitClaim_Replay() {
+        // Given
+        ClaimResponse created = response("CLM-1");
+        when(claimIdempotencyKeyRepository.findByKeycloakUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        when(claimService.submitClaim(any(), eq(USER_ID))).thenReturn(created);
+
+        // When
+        ClaimResponse first = service.submitClaim(request("5000.00"), USER_ID, KEY);
+        ClaimResponse replay = service.submitClaim(request("5000.00"), USER_ID, KEY);
+
+        // Then
+        assertThat(first).isSameAs(created);
+        assertThat(replay).isSameAs(created);
+        verify(claimService, times(1)).submitClaim(any(), eq(USER_ID));
+
+        ArgumentCaptor<ClaimIdempotencyKey> row = ArgumentCaptor.forClass(ClaimIdempotencyKey.class);
+        verify(claimIdempotencyKeyRepository).saveAndFlush(row.capture());
+        assertThat(row.getValue().getClaimNumber()).isEqualTo("CLM-1");
+        assertThat(row.getValue().getRequestHash()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored by another instance from the key table")
+    void submitClaim_ReplayFromTable() throws Exception {
+        // Given
+        String requestHash = hashOf(request("5000.00"));
+        ClaimIdempotencyKey row = new ClaimIdempotencyKey();
+        row.setRequestHash(requestHash);
+        row.setResponseBody(objectMapper.writeValueAsString(response("CLM-1")));
+        when(claimIdempotencyKeyRepository.findByKeycloakUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.of(row));
+
+        // When
+        ClaimResponse replay = service.submitClaim(request("5000.00"), USER_ID, KEY);
+
+        // Then
+        assertThat(replay.getClaimNumber()).isEqualTo("CLM-1");
+        verifyNoInteractions(claimService);
+    }
+
+    @Test
+    @DisplayName("Should refuse a key reused for a different request with 422")
+    void submitClaim_HashMismatch() {
+        // Given
+        when(claimIdempotencyKeyRepository.findByKeycloakUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        when(claimService.submitClaim(any(), eq(USER_ID))).thenReturn(response("CLM-1"));
+        service.submitClaim(request("5000.00"), USER_ID, KEY);
+
+        // When
+        Throwable thrown = catchThrowable(() -> service.submitClaim(request("9000.00"), USER_ID, KEY));
+
+        // Then
+        assertThat(thrown).isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(new GlobalExceptionHandler()
+                .handleIdempotencyKeyMismatchException((IdempotencyKeyMismatchException) thrown)
+                .getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        verify(claimService, times(1)).submitClaim(any(), eq(USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should coalesce a concurrent request with the same key onto the one in flight")
+    void submitClaim_CoalescesInFlight() throws Exception {
+        // Given: the first submission blocks inside the claim service until released
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger submissions = new AtomicInteger();
+        when(claimIdempotencyKeyRepository.findByKeycloakUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        when(claimService.submitClaim(any(), eq(USER_ID))).thenAnswer(invocation -> {
+            submissions.incrementAndGet();
+            entered.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return response("CLM-1");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ClaimResponse> first = executor.submit(() -> service.submitClaim(request("5000.00"), USER_ID, KEY));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<ClaimResponse> second = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return service.submitClaim(request("5000.00"), USER_ID, KEY);
+            });
+            awaitParked(waiter);
+
+            // When
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).getClaimNumber()).isEqualTo("CLM-1");
+            assertThat(second.get(5, TimeUnit.SECONDS).getClaimNumber()).isEqualTo("CLM-1");
+            assertThat(submissions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Wait until the second request is blocked on the submission in flight
+    private static void awaitParked(AtomicReference<Thread> waiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread thread = waiter.get();
+            if (thread != null && thread.getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Second request did not wait for the first");
+    }
+
+    private String hashOf(ClaimRequest request) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private static ClaimRequest request(String claimedAmount) {
+        ClaimRequest request = new ClaimRequest();
+        request.setPolicyNumber("CAR-2024-001");
+        request.setPolicyType(Claim.PolicyType.CAR);
+        request.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        request.setIncidentDate(LocalDate.of(2024, 9, 30));
+        request.setClaimedAmount(new BigDecimal(claimedAmount));
+        request.setDescription("Car accident on highway");
+        return request;
+    }
+
+    private static ClaimResponse response(String claimNumber) {
+        ClaimResponse response = new ClaimResponse();
+        response.setClaimNumber(claimNumber);
+        response.setStatus(Claim.ClaimStatus.SUBMITTED);
+        return response;
+    }
+}
@@ -0,0 +1,182 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimAutoAdjudicator
+ * One test per rule, plus the claimant-history rules counting claims from the same uncommitted batch
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimAutoAdjudicator Unit Tests")
+class ClaimAutoAdjudicatorTest {
+
+    private static final String USER_ID = "user-123";
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimAutoAdjudicator adjudicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adjudicator = new ClaimAutoAdjudicator(claimRepository, meterRegistry);
+        ReflectionTestUtils.setField(adjudicator, "enabled", true);
+        ReflectionTestUtils.setField(adjudicator, "threshold", new BigDecimal("5000.00"));
+        ReflectionTestUtils.setField(adjudicator, "eligibleSeverities", new String[]{"LOW", "MEDIUM"});
+        ReflectionTestUtils.setField(adjudicator, "excludedClaimTypes", new String[]{"DEATH_CLAIM", "LIABILITY_CLAIM"});
+        ReflectionTestUtils.setField(adjudicator, "maxPriorClaims", 3L);
+        adjudicator.compileRules();
+    }
+
+    @Test
+    @DisplayName("Should approve a small, low-severity claim from a claimant with a clean, short history")
+    void isEligible_AllRulesPass() {
+        // Given
+        when(claimRepository.countByKeycloakUserIdAndStatus(USER_ID, Claim.ClaimStatus.REJECTED)).thenReturn(0L);
+        when(claimRepository.countByKeycloakUserId(USER_ID)).thenReturn(3L);
+
+        // When
+        boolean eligible = adjudicator.isEligible(claim("5000.00"), List.of());
+
+        // Then
+        assertThat(eligible).isTrue();
+        assertThat(meterRegistry.counter("claims.auto-adjudication", "outcome", "approved").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refer a claim above the threshold without querying the claimant's history")
+    void isEligible_AmountAboveThreshold() {
+        // When
+        boolean eligible = adjudicator.isEligible(claim("5000.01"), List.of());
+
+        // Then
+        assertThat(eligible).isFalse();
+        assertThat(meterRegistry.counter("claims.auto-adjudication", "outcome", "referred").count()).isEqualTo(1.0);
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    @DisplayName("Should refer a claim whose severity is not eligible")
+    void isEligible_IneligibleSeverity() {
+        // Given
+        Claim claim = claim("100.00");
+        claim.setSeverity(Claim.Severity.HIGH);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim, List.of())).isFalse();
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    @DisplayName("Should refer a claim of an excluded type")
+    void isEligible_ExcludedClaimType() {
+        // Given
+        Claim claim = claim("100.00");
+        claim.setClaimType(Claim.ClaimType.LIABILITY_CLAIM);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim, List.of())).isFalse();
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    @DisplayName("Should refer a claim from a claimant with a prior rejection")
+    void isEligible_PriorRejection() {
+        // Given
+        when(claimRepository.countByKeycloakUserIdAndStatus(USER_ID, Claim.ClaimStatus.REJECTED)).thenReturn(1L);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim("100.00"), List.of())).isFalse();
+        verify(claimRepository, never()).countByKeycloakUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should refer a claim from a claimant with more prior claims than allowed")
+    void isEligible_LongClaimHistory() {
+        // Given
+        when(claimRepository.countByKeycloakUserIdAndStatus(USER_ID, Claim.ClaimStatus.REJECTED)).thenReturn(0L);
+        when(claimRepository.countByKeycloakUserId(USER_ID)).thenReturn(4L);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim("100.00"), List.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count the claimant's earlier claims in the same uncommitted batch")
+    void isEligible_CountsUncommittedBatch() {
+        // Given: no committed history, and a group commit carrying five claims by the same user
+        when(claimRepository.countByKeycloakUserIdAndStatus(USER_ID, Claim.ClaimStatus.REJECTED)).thenReturn(0L);
+        when(claimRepository.countByKeycloakUserId(USER_ID)).thenReturn(0L);
+        List<Claim> batch = new ArrayList<>();
+        batch.add(claimFor("other-user"));
+        List<Boolean> outcomes = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            Claim claim = claim("100.00");
+            outcomes.add(adjudicator.isEligible(claim, batch));
+            batch.add(claim);
+        }
+
+        // Then: the first four stay within max-prior-claims=3, the fifth is referred
+        assertThat(outcomes).containsExactly(true, true, true, true, false);
+    }
+
+    @Test
+    @DisplayName("Should treat a rejected claim in the same uncommitted batch as a prior rejection")
+    void isEligible_UncommittedRejection() {
+        // Given
+        Claim rejected = claim("100.00");
+        rejected.setStatus(Claim.ClaimStatus.REJECTED);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim("100.00"), List.of(rejected))).isFalse();
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    @DisplayName("Should approve nothing when auto-adjudication is disabled")
+    void isEligible_Disabled() {
+        // Given
+        ReflectionTestUtils.setField(adjudicator, "enabled", false);
+
+        // When / Then
+        assertThat(adjudicator.isEligible(claim("100.00"), List.of())).isFalse();
+        verifyNoInteractions(claimRepository);
+    }
+
+    private static Claim claim(String claimedAmount) {
+        Claim claim = claimFor(USER_ID);
+        claim.setClaimedAmount(new BigDecimal(claimedAmount));
+        return claim;
+    }
+
+    private static Claim claimFor(String userId) {
+        Claim claim = new Claim();
+        claim.setKeycloakUserId(userId);
+        claim.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        claim.setSeverity(Claim.Severity.LOW);
+        claim.setClaimedAmount(new BigDecimal("100.00"));
+        claim.setStatus(Claim.ClaimStatus.SUBMITTED);
+        return claim;
+    }
+}
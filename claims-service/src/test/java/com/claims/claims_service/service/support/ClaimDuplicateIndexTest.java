@@ -0,0 +1,128 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ClaimDuplicateIndex
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimDuplicateIndex Unit Tests")
+class ClaimDuplicateIndexTest {
+
+    private static final LocalDate INCIDENT_DATE = LocalDate.of(2024, 9, 30);
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    private ClaimDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClaimDuplicateIndex(claimRepository);
+        ReflectionTestUtils.setField(index, "mode", ClaimDuplicateIndex.Mode.FLAG);
+        ReflectionTestUtils.setField(index, "amountTolerance", new BigDecimal("0.10"));
+    }
+
+    @Test
+    @DisplayName("Should find a claim for the same incident with a similar amount")
+    void findLikelyDuplicate_SimilarAmount() {
+        // Given
+        when(claimRepository.streamFingerprints(Claim.ClaimStatus.CANCELLED))
+                .thenReturn(Stream.of(fingerprint("CLM-1", "5000.00")));
+        index.warm();
+
+        // When / Then
+        assertThat(index.findLikelyDuplicate(claim("CLM-NEW", "5200.00"), List.of())).contains("CLM-1");
+        assertThat(index.findLikelyDuplicate(claim("CLM-NEW", "9000.00"), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should check a claim against uncommitted claims from the same batch")
+    void findLikelyDuplicate_Uncommitted() {
+        // Given
+        when(claimRepository.streamFingerprints(Claim.ClaimStatus.CANCELLED)).thenReturn(Stream.empty());
+        index.warm();
+
+        // When / Then
+        assertThat(index.findLikelyDuplicate(claim("CLM-2", "5000.00"), List.of(claim("CLM-1", "5000.00"))))
+                .contains("CLM-1");
+    }
+
+    @Test
+    @DisplayName("Should keep transitions that commit while a re-warm reads the database")
+    void warm_KeepsConcurrentTransitions() {
+        // Given: CLM-1 is cancelled and CLM-2 submitted after the re-warm's read started
+        when(claimRepository.streamFingerprints(Claim.ClaimStatus.CANCELLED)).thenAnswer(invocation -> {
+            index.onClaimTransition(new ClaimTransitionEvent(
+                    claim("CLM-1", "5000.00"), Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.CANCELLED, LocalDateTime.now()));
+            index.onClaimTransition(new ClaimTransitionEvent(
+                    claim("CLM-2", "7000.00"), null, Claim.ClaimStatus.SUBMITTED, LocalDateTime.now()));
+            return Stream.of(fingerprint("CLM-1", "5000.00"), fingerprint("CLM-2", "7000.00"));
+        });
+
+        // When
+        index.warm();
+
+        // Then
+        assertThat(index.findLikelyDuplicate(claim("CLM-NEW", "5000.00"), List.of())).isEmpty();
+        assertThat(index.findLikelyDuplicate(claim("CLM-NEW", "7000.00"), List.of())).contains("CLM-2");
+    }
+
+    private static Claim claim(String claimNumber, String claimedAmount) {
+        Claim claim = new Claim();
+        claim.setClaimNumber(claimNumber);
+        claim.setPolicyNumber("CAR-2024-001");
+        claim.setIncidentDate(INCIDENT_DATE);
+        claim.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        claim.setClaimedAmount(new BigDecimal(claimedAmount));
+        return claim;
+    }
+
+    private static ClaimFingerprint fingerprint(String claimNumber, String claimedAmount) {
+        return new ClaimFingerprint() {
+            @Override
+            public String getClaimNumber() {
+                return claimNumber;
+            }
+
+            @Override
+            public String getPolicyNumber() {
+                return "CAR-2024-001";
+            }
+
+            @Override
+            public LocalDate getIncidentDate() {
+                return INCIDENT_DATE;
+            }
+
+            @Override
+            public Claim.ClaimType getClaimType() {
+                return Claim.ClaimType.ACCIDENT_CLAIM;
+            }
+
+            @Override
+            public BigDecimal getClaimedAmount() {
+                return new BigDecimal(claimedAmount);
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ClaimResponseCache
+ * Transactions are simulated through the synchronization manager, so the listener is registered
+ * by the same factory the application uses and only fires on the commit callbacks
+ */
+@DisplayName("ClaimResponseCache Unit Tests")
+class ClaimResponseCacheTest {
+
+    private static final String CLAIM_NUMBER = "CLM-0K5Z3M8Q2R4T6";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(SimpleMeterRegistry.class)
+            .withBean(TransactionalEventListenerFactory.class)
+            .withBean(ClaimResponseCache.class);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep serving the cached claim until the transition commits")
+    void onClaimTransition_InvalidatesAfterCommit() {
+        contextRunner.run(context -> {
+            // Given
+            ClaimResponseCache cache = context.getBean(ClaimResponseCache.class);
+            cache.get(CLAIM_NUMBER, loader("SUBMITTED"));
+            beginTransaction();
+
+            // When
+            context.publishEvent(transition());
+
+            // Then: still cached while the transaction is open, reloaded once it commits
+            assertThat(cached(cache)).isEqualTo("SUBMITTED");
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(cached(cache)).isEqualTo("APPROVED");
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the cached claim when the transition rolls back")
+    void onClaimTransition_KeepsEntryOnRollback() {
+        contextRunner.run(context -> {
+            // Given
+            ClaimResponseCache cache = context.getBean(ClaimResponseCache.class);
+            cache.get(CLAIM_NUMBER, loader("SUBMITTED"));
+            beginTransaction();
+
+            // When
+            context.publishEvent(transition());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertThat(cached(cache)).isEqualTo("SUBMITTED");
+        });
+    }
+
+    @Test
+    @DisplayName("Should not cache a claim the loader could not find")
+    void get_DoesNotCacheMissing() {
+        // Given
+        ClaimResponseCache cache = new ClaimResponseCache(new SimpleMeterRegistry(), 100, 30);
+        cache.get(CLAIM_NUMBER, number -> null);
+
+        // When
+        String status = cached(cache);
+
+        // Then
+        assertThat(status).isEqualTo("APPROVED");
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    // Status of the cached entry, or APPROVED when the cache had to load it again
+    private static String cached(ClaimResponseCache cache) {
+        return cache.get(CLAIM_NUMBER, loader("APPROVED")).orElseThrow().response().getStatus().name();
+    }
+
+    private static Function<String, ClaimResponseCache.CachedClaim> loader(String status) {
+        return number -> {
+            ClaimResponse response = new ClaimResponse();
+            response.setClaimNumber(number);
+            response.setStatus(Claim.ClaimStatus.valueOf(status));
+            return new ClaimResponseCache.CachedClaim("user-1", response);
+        };
+    }
+
+    private static ClaimTransitionEvent transition() {
+        Claim claim = new Claim();
+        claim.setClaimNumber(CLAIM_NUMBER);
+        return new ClaimTransitionEvent(claim, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.APPROVED, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,122 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ReviewCandidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ClaimReviewQueue
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimReviewQueue Unit Tests")
+class ClaimReviewQueueTest {
+
+    private static final LocalDateTime SUBMITTED_AT = LocalDateTime.of(2024, 10, 1, 9, 0);
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    private ClaimReviewQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ClaimReviewQueue(claimRepository, 15);
+    }
+
+    @Test
+    @DisplayName("Should hand out claims by severity, then oldest first")
+    void poll_ByPriority() {
+        // Given
+        when(claimRepository.findReviewCandidates(eq(Claim.ClaimStatus.SUBMITTED), any())).thenReturn(List.of(
+                candidate("CLM-LOW", Claim.Severity.LOW, SUBMITTED_AT),
+                candidate("CLM-CRITICAL", Claim.Severity.CRITICAL, SUBMITTED_AT.plusHours(1)),
+                candidate("CLM-LOW-OLDER", Claim.Severity.LOW, SUBMITTED_AT.minusHours(1))));
+        queue.rebuild();
+
+        // When / Then
+        LocalDateTime expiry = LocalDateTime.now().plusMinutes(15);
+        assertThat(queue.poll(expiry)).contains("CLM-CRITICAL");
+        assertThat(queue.poll(expiry)).contains("CLM-LOW-OLDER");
+        assertThat(queue.poll(expiry)).contains("CLM-LOW");
+        assertThat(queue.poll(expiry)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep transitions that commit while a rebuild reads the database")
+    void rebuild_KeepsConcurrentTransitions() {
+        // Given: CLM-1 is approved and CLM-2 submitted after the rebuild's read started
+        when(claimRepository.findReviewCandidates(eq(Claim.ClaimStatus.SUBMITTED), any())).thenAnswer(invocation -> {
+            queue.onClaimTransition(transition("CLM-1", Claim.ClaimStatus.APPROVED));
+            queue.onClaimTransition(transition("CLM-2", Claim.ClaimStatus.SUBMITTED));
+            return List.of(candidate("CLM-1", Claim.Severity.HIGH, SUBMITTED_AT));
+        });
+
+        // When
+        queue.rebuild();
+
+        // Then
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.poll(LocalDateTime.now().plusMinutes(15))).contains("CLM-2");
+    }
+
+    @Test
+    @DisplayName("Should not queue a claim this instance has leased")
+    void rebuild_SkipsLeasedClaims() {
+        // Given
+        when(claimRepository.findReviewCandidates(eq(Claim.ClaimStatus.SUBMITTED), any()))
+                .thenReturn(List.of(candidate("CLM-1", Claim.Severity.HIGH, SUBMITTED_AT)));
+        queue.rebuild();
+        Optional<String> leased = queue.poll(LocalDateTime.now().plusMinutes(15));
+
+        // When
+        queue.rebuild();
+
+        // Then
+        assertThat(leased).contains("CLM-1");
+        assertThat(queue.size()).isZero();
+    }
+
+    private static ClaimTransitionEvent transition(String claimNumber, Claim.ClaimStatus newStatus) {
+        Claim claim = new Claim();
+        claim.setClaimNumber(claimNumber);
+        claim.setSeverity(Claim.Severity.MEDIUM);
+        claim.setSubmittedDate(SUBMITTED_AT);
+        claim.setStatus(newStatus);
+        return new ClaimTransitionEvent(claim, Claim.ClaimStatus.SUBMITTED, newStatus, LocalDateTime.now());
+    }
+
+    private static ReviewCandidate candidate(String claimNumber, Claim.Severity severity, LocalDateTime submittedDate) {
+        return new ReviewCandidate() {
+            @Override
+            public String getClaimNumber() {
+                return claimNumber;
+            }
+
+            @Override
+            public Claim.Severity getSeverity() {
+                return severity;
+            }
+
+            @Override
+            public LocalDateTime getSubmittedDate() {
+                return submittedDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,200 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.model.ClaimDailyRollup;
+import com.claims.claims_service.model.ClaimJobLock;
+import com.claims.claims_service.repository.ClaimDailyRollupRepository;
+import com.claims.claims_service.repository.ClaimJobLockRepository;
+import com.claims.claims_service.repository.ClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimRollupRecorder
+ * Drives the applier by hand instead of through the scheduler
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimRollupRecorder Unit Tests")
+class ClaimRollupRecorderTest {
+
+    private static final LocalDateTime SUBMITTED = LocalDateTime.of(2026, 10, 1, 9, 30);
+    private static final LocalDate DAY = SUBMITTED.toLocalDate();
+
+    @Mock
+    private ClaimDailyRollupRepository claimDailyRollupRepository;
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ClaimJobLockRepository claimJobLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClaimRollupRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new ClaimRollupRecorder(claimDailyRollupRepository, claimRepository, claimJobLockRepository,
+                transactionManager);
+        recorder.init();
+    }
+
+    @Test
+    @DisplayName("Should touch no rollup row until the applier runs")
+    void onClaimTransition_OnlyRecords() {
+        // When
+        recorder.onClaimTransition(transition(claim("1000.00"), null, Claim.ClaimStatus.SUBMITTED));
+
+        // Then
+        assertThat(recorder.pendingRows()).isEqualTo(1);
+        verifyNoInteractions(claimDailyRollupRepository, claimJobLockRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should merge a burst of transitions into one upsert per rollup row in one transaction")
+    void applyPendingDeltas_MergesPerRow() {
+        // Given: three submissions on the same day and one of them approved
+        Claim approved = claim("1000.00");
+        approved.setApprovedAmount(new BigDecimal("800.00"));
+        recorder.onClaimTransition(transition(approved, null, Claim.ClaimStatus.SUBMITTED));
+        recorder.onClaimTransition(transition(claim("200.00"), null, Claim.ClaimStatus.SUBMITTED));
+        recorder.onClaimTransition(transition(claim("300.00"), null, Claim.ClaimStatus.SUBMITTED));
+        recorder.onClaimTransition(transition(approved, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.APPROVED));
+        when(claimDailyRollupRepository.addToRollup(any(), any(), any(), any(), anyLong(), any(), any(), any()))
+                .thenReturn(1);
+
+        // When
+        recorder.applyPendingDeltas();
+
+        // Then
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(claimJobLockRepository).lockSharedByName("claim-daily-rollups");
+        verify(claimDailyRollupRepository).addToRollup(eq(DAY), eq(Claim.PolicyType.CAR), eq(Claim.ClaimType.ACCIDENT_CLAIM),
+                eq(Claim.ClaimStatus.SUBMITTED), eq(2L), eq(new BigDecimal("500.00")), eq(BigDecimal.ZERO), any());
+        verify(claimDailyRollupRepository).addToRollup(eq(DAY), eq(Claim.PolicyType.CAR), eq(Claim.ClaimType.ACCIDENT_CLAIM),
+                eq(Claim.ClaimStatus.APPROVED), eq(1L), eq(new BigDecimal("1000.00")), eq(new BigDecimal("800.00")), any());
+        verifyNoMoreInteractions(claimDailyRollupRepository);
+        assertThat(recorder.pendingRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip rows whose deltas cancel out")
+    void applyPendingDeltas_SkipsNetZeroRows() {
+        // Given: submitted and moved on before the applier ran
+        Claim claim = claim("1000.00");
+        recorder.onClaimTransition(transition(claim, null, Claim.ClaimStatus.SUBMITTED));
+        recorder.onClaimTransition(transition(claim, Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.UNDER_REVIEW));
+        when(claimDailyRollupRepository.addToRollup(any(), any(), any(), any(), anyLong(), any(), any(), any()))
+                .thenReturn(1);
+
+        // When
+        recorder.applyPendingDeltas();
+
+        // Then
+        verify(claimDailyRollupRepository).addToRollup(eq(DAY), any(), any(), eq(Claim.ClaimStatus.UNDER_REVIEW),
+                eq(1L), any(), any(), any());
+        verifyNoMoreInteractions(claimDailyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should insert the rollup row when no existing row was updated")
+    void applyPendingDeltas_InsertsMissingRow() {
+        // Given
+        recorder.onClaimTransition(transition(claim("1000.00"), null, Claim.ClaimStatus.SUBMITTED));
+        when(claimDailyRollupRepository.addToRollup(any(), any(), any(), any(), anyLong(), any(), any(), any()))
+                .thenReturn(0);
+
+        // When
+        recorder.applyPendingDeltas();
+
+        // Then
+        ArgumentCaptor<ClaimDailyRollup> rollup = ArgumentCaptor.forClass(ClaimDailyRollup.class);
+        verify(claimDailyRollupRepository).saveAndFlush(rollup.capture());
+        assertThat(rollup.getValue().getRollupDate()).isEqualTo(DAY);
+        assertThat(rollup.getValue().getStatus()).isEqualTo(Claim.ClaimStatus.SUBMITTED);
+        assertThat(rollup.getValue().getClaimCount()).isEqualTo(1);
+        assertThat(rollup.getValue().getClaimedAmount()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("Should keep the deltas of a failed run for the next one")
+    void applyPendingDeltas_RetriesFailedRun() {
+        // Given: the first insert races another instance
+        recorder.onClaimTransition(transition(claim("1000.00"), null, Claim.ClaimStatus.SUBMITTED));
+        when(claimDailyRollupRepository.addToRollup(any(), any(), any(), any(), anyLong(), any(), any(), any()))
+                .thenReturn(0, 1);
+        when(claimDailyRollupRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        recorder.applyPendingDeltas();
+        assertThat(recorder.pendingRows()).isEqualTo(1);
+
+        // When
+        recorder.applyPendingDeltas();
+
+        // Then
+        verify(claimDailyRollupRepository, times(2)).addToRollup(eq(DAY), any(), any(), eq(Claim.ClaimStatus.SUBMITTED),
+                eq(1L), any(), any(), any());
+        assertThat(recorder.pendingRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not open a transaction when nothing is pending")
+    void applyPendingDeltas_NothingPending() {
+        // When
+        recorder.applyPendingDeltas();
+
+        // Then
+        verifyNoInteractions(transactionManager, claimJobLockRepository, claimDailyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should drop pending deltas the rebuild already counted")
+    void rebuild_DropsPendingDeltas() {
+        // Given
+        recorder.onClaimTransition(transition(claim("1000.00"), null, Claim.ClaimStatus.SUBMITTED));
+        when(claimJobLockRepository.lockByName("claim-daily-rollups")).thenReturn(Optional.of(new ClaimJobLock()));
+        when(claimRepository.aggregateDailyRollups()).thenReturn(List.of());
+
+        // When
+        recorder.rebuild();
+        recorder.applyPendingDeltas();
+
+        // Then
+        assertThat(recorder.pendingRows()).isZero();
+        verify(claimDailyRollupRepository, never()).addToRollup(any(), any(), any(), any(), anyLong(), any(), any(), any());
+    }
+
+    private static Claim claim(String claimedAmount) {
+        Claim claim = new Claim();
+        claim.setClaimNumber("CLM-0K5Z3M8Q2R4T6");
+        claim.setSubmittedDate(SUBMITTED);
+        claim.setPolicyType(Claim.PolicyType.CAR);
+        claim.setClaimType(Claim.ClaimType.ACCIDENT_CLAIM);
+        claim.setClaimedAmount(new BigDecimal(claimedAmount));
+        return claim;
+    }
+
+    private static ClaimTransitionEvent transition(Claim claim, Claim.ClaimStatus previousStatus,
+                                                   Claim.ClaimStatus newStatus) {
+        return new ClaimTransitionEvent(claim, previousStatus, newStatus, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,123 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimSearchIndex
+ * Rebuilds run on the test thread; updates go through the apply seam the indexer thread uses
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimSearchIndex Unit Tests")
+class ClaimSearchIndexTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClaimSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClaimSearchIndex(claimRepository, transactionManager);
+        ReflectionTestUtils.setField(index, "updateQueueCapacity", 100);
+        index.startIndexer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stopIndexer();
+    }
+
+    @Test
+    @DisplayName("Should pick up claims committed elsewhere on the next rebuild")
+    void rebuild_PicksUpNewRows() {
+        // Given
+        when(claimRepository.streamAll()).thenReturn(Stream.of())
+                .thenReturn(Stream.of(row("CLM-A", Claim.ClaimStatus.SUBMITTED, "Basement flooded overnight")));
+        index.rebuild();
+        assertThat(hits("flooded", null)).isEmpty();
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(hits("flooded", null)).containsExactly("CLM-A");
+    }
+
+    @Test
+    @DisplayName("Should replay submissions and status changes applied while the rebuild read the database")
+    void rebuild_ReplaysConcurrentUpdates() {
+        // Given: updates land, on whichever thread, while the rows are streamed
+        when(claimRepository.streamAll()).thenReturn(Stream.of(row("CLM-A", Claim.ClaimStatus.SUBMITTED, "Kitchen fire"))
+                .peek(row -> {
+                    index.apply(target -> target.put(indexed("CLM-B", "Basement flooded overnight")));
+                    index.apply(target -> target.updateStatus("CLM-A", Claim.ClaimStatus.APPROVED));
+                }));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(hits("flooded", null)).containsExactly("CLM-B");
+        assertThat(hits("fire", Claim.ClaimStatus.APPROVED)).containsExactly("CLM-A");
+    }
+
+    @Test
+    @DisplayName("Should keep the live index and allow another rebuild after a failed one")
+    void rebuild_FailureKeepsIndex() {
+        // Given
+        index.apply(target -> target.put(indexed("CLM-A", "Basement flooded overnight")));
+        when(claimRepository.streamAll())
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Stream.of(row("CLM-C", Claim.ClaimStatus.SUBMITTED, "Garage flooded in the storm")));
+
+        // When
+        assertThatThrownBy(index::rebuild).isInstanceOf(QueryTimeoutException.class);
+        assertThat(hits("flooded", null)).containsExactly("CLM-A");
+        index.rebuild();
+
+        // Then
+        assertThat(hits("flooded", null)).containsExactly("CLM-C");
+    }
+
+    private List<String> hits(String query, Claim.ClaimStatus status) {
+        return index.search(query, status, null, null, null, 10).stream()
+                .map(ClaimSearchIndex.Hit::claimNumber)
+                .toList();
+    }
+
+    private static ClaimSearchIndex.IndexedClaim indexed(String claimNumber, String description) {
+        return ClaimSearchIndex.toIndexed(claimNumber, Claim.ClaimStatus.SUBMITTED, Claim.PolicyType.HOUSE, null,
+                description, null);
+    }
+
+    private static ClaimResponse row(String claimNumber, Claim.ClaimStatus status, String description) {
+        ClaimResponse row = new ClaimResponse();
+        row.setClaimNumber(claimNumber);
+        row.setStatus(status);
+        row.setPolicyType(Claim.PolicyType.HOUSE);
+        row.setDescription(description);
+        return row;
+    }
+}
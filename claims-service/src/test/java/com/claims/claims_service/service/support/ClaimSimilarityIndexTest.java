@@ -0,0 +1,109 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.dto.response.ClaimResponse;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.util.MinHashLsh;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimSimilarityIndex
+ * Rebuilds run on the test thread; updates go through the put seam the indexer thread uses
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimSimilarityIndex Unit Tests")
+class ClaimSimilarityIndexTest {
+
+    private static final String FLOOD_TEXT = "Basement flooded after the washing machine hose burst overnight";
+    private static final String THEFT_TEXT = "Bicycle stolen from the locked shed behind the garage";
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClaimSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClaimSimilarityIndex(claimRepository, transactionManager, 128, 32, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stopIndexer();
+    }
+
+    @Test
+    @DisplayName("Should pick up claims committed elsewhere on the next rebuild")
+    void rebuild_PicksUpNewRows() {
+        // Given
+        when(claimRepository.streamAll()).thenReturn(Stream.of()).thenReturn(Stream.of(row("CLM-A", FLOOD_TEXT)));
+        index.rebuild();
+        assertThat(similarToFlood()).isEmpty();
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(similarToFlood()).extracting(MinHashLsh.Match::key).containsExactly("CLM-A");
+    }
+
+    @Test
+    @DisplayName("Should replay submissions indexed while the rebuild read the database")
+    void rebuild_ReplaysConcurrentPuts() {
+        // Given: a submission lands, on whichever thread, while the rows are streamed
+        when(claimRepository.streamAll()).thenReturn(Stream.of(row("CLM-A", THEFT_TEXT))
+                .peek(row -> index.put("CLM-B", FLOOD_TEXT)));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(similarToFlood()).extracting(MinHashLsh.Match::key).containsExactly("CLM-B");
+    }
+
+    @Test
+    @DisplayName("Should keep the live index and allow another rebuild after a failed one")
+    void rebuild_FailureKeepsIndex() {
+        // Given
+        index.put("CLM-A", FLOOD_TEXT);
+        when(claimRepository.streamAll())
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Stream.of(row("CLM-A", FLOOD_TEXT), row("CLM-C", FLOOD_TEXT)));
+
+        // When
+        assertThatThrownBy(index::rebuild).isInstanceOf(QueryTimeoutException.class);
+        assertThat(similarToFlood()).extracting(MinHashLsh.Match::key).containsExactly("CLM-A");
+        index.rebuild();
+
+        // Then
+        assertThat(similarToFlood()).extracting(MinHashLsh.Match::key).containsExactlyInAnyOrder("CLM-A", "CLM-C");
+    }
+
+    private List<MinHashLsh.Match> similarToFlood() {
+        return index.findSimilar("CLM-QUERY", FLOOD_TEXT, null, 0.5, 10);
+    }
+
+    private static ClaimResponse row(String claimNumber, String description) {
+        ClaimResponse row = new ClaimResponse();
+        row.setClaimNumber(claimNumber);
+        row.setDescription(description);
+        return row;
+    }
+}
@@ -0,0 +1,155 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimSlaEscalationEvent;
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.kafka.ClaimEventOutbox;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimSlaMonitor
+ * Drives the timing wheel by hand through the tick seam instead of the background ticker
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimSlaMonitor Unit Tests")
+class ClaimSlaMonitorTest {
+
+    private static final long TICK_MS = 100;
+    private static final long RETRY_DELAY_MS = 60_000;
+    private static final String CLAIM_NUMBER = "CLM-0K5Z3M8Q2R4T6";
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ClaimEventOutbox claimEventOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimSlaMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ClaimSlaMonitor(claimRepository, claimEventOutbox, transactionManager, meterRegistry,
+                48, 120, TICK_MS, 64);
+        ReflectionTestUtils.setField(monitor, "retryDelayMs", RETRY_DELAY_MS);
+    }
+
+    @Test
+    @DisplayName("Should escalate a breached deadline through the outbox once the claim is marked")
+    void tick_EscalatesBreach() {
+        // Given: submitted 49 hours ago against a 48-hour SLA
+        LocalDateTime submitted = LocalDateTime.now().minusHours(49);
+        monitor.onClaimTransition(submission(submitted));
+        when(claimRepository.markSlaEscalated(eq(CLAIM_NUMBER), eq(Claim.ClaimStatus.SUBMITTED), eq(submitted), any()))
+                .thenReturn(1);
+
+        // When
+        monitor.tick(System.currentTimeMillis() + 2 * TICK_MS);
+
+        // Then
+        ArgumentCaptor<ClaimSlaEscalationEvent> event = ArgumentCaptor.forClass(ClaimSlaEscalationEvent.class);
+        verify(claimEventOutbox).enqueue(event.capture());
+        assertThat(event.getValue().getClaimNumber()).isEqualTo(CLAIM_NUMBER);
+        assertThat(event.getValue().getStatus()).isEqualTo("SUBMITTED");
+        assertThat(event.getValue().getDeadline()).isEqualTo(submitted.plusHours(48));
+        assertThat(monitor.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should re-arm the deadline from the new status when a claim moves on")
+    void onClaimTransition_ReArms() {
+        // Given: breached in SUBMITTED, but moved to UNDER_REVIEW just now
+        monitor.onClaimTransition(submission(LocalDateTime.now().minusHours(49)));
+        monitor.onClaimTransition(transition(Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.UNDER_REVIEW));
+
+        // When
+        monitor.tick(System.currentTimeMillis() + 2 * TICK_MS);
+
+        // Then: the 120-hour UNDER_REVIEW deadline is still to come
+        assertThat(monitor.pending()).isEqualTo(1);
+        verifyNoInteractions(claimRepository, claimEventOutbox);
+    }
+
+    @Test
+    @DisplayName("Should cancel the deadline when a claim reaches a status without an SLA")
+    void onClaimTransition_Cancels() {
+        // Given
+        monitor.onClaimTransition(submission(LocalDateTime.now().minusHours(49)));
+        monitor.onClaimTransition(transition(Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.CANCELLED));
+
+        // When
+        monitor.tick(System.currentTimeMillis() + 2 * TICK_MS);
+
+        // Then
+        assertThat(monitor.pending()).isZero();
+        verifyNoInteractions(claimRepository, claimEventOutbox);
+    }
+
+    @Test
+    @DisplayName("Should retry an escalation whose transaction failed after the retry delay")
+    void tick_RetriesFailure() {
+        // Given
+        monitor.onClaimTransition(submission(LocalDateTime.now().minusHours(49)));
+        when(claimRepository.markSlaEscalated(any(), any(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timed out"))
+                .thenReturn(1);
+        long now = System.currentTimeMillis();
+
+        // When
+        monitor.tick(now + 2 * TICK_MS);
+
+        // Then: rescheduled, and not retried before the delay
+        assertThat(monitor.pending()).isEqualTo(1);
+        assertThat(meterRegistry.counter("claims.sla.escalation.failures").count()).isEqualTo(1.0);
+        verifyNoInteractions(claimEventOutbox);
+        monitor.tick(now + RETRY_DELAY_MS / 2);
+        verify(claimRepository, times(1)).markSlaEscalated(any(), any(), any(), any());
+
+        // When
+        monitor.tick(now + 2 * TICK_MS + RETRY_DELAY_MS + TICK_MS);
+
+        // Then
+        verify(claimRepository, times(2)).markSlaEscalated(any(), any(), any(), any());
+        verify(claimEventOutbox).enqueue(any(ClaimSlaEscalationEvent.class));
+        assertThat(monitor.pending()).isZero();
+    }
+
+    private static ClaimTransitionEvent submission(LocalDateTime submittedDate) {
+        Claim claim = claim(Claim.ClaimStatus.SUBMITTED);
+        claim.setSubmittedDate(submittedDate);
+        return new ClaimTransitionEvent(claim, null, Claim.ClaimStatus.SUBMITTED, submittedDate);
+    }
+
+    private static ClaimTransitionEvent transition(Claim.ClaimStatus previousStatus, Claim.ClaimStatus newStatus) {
+        return new ClaimTransitionEvent(claim(newStatus), previousStatus, newStatus, LocalDateTime.now());
+    }
+
+    private static Claim claim(Claim.ClaimStatus status) {
+        Claim claim = new Claim();
+        claim.setClaimNumber(CLAIM_NUMBER);
+        claim.setKeycloakUserId("user-123");
+        claim.setStatus(status);
+        return claim;
+    }
+}
@@ -0,0 +1,118 @@
+package com.claims.claims_service.service.support;
+
+import com.claims.claims_service.event.ClaimTransitionEvent;
+import com.claims.claims_service.model.Claim;
+import com.claims.claims_service.repository.ClaimRepository;
+import com.claims.claims_service.repository.projection.ClaimStatusCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClaimStatusCounters
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClaimStatusCounters Unit Tests")
+class ClaimStatusCountersTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @InjectMocks
+    private ClaimStatusCounters counters;
+
+    @Test
+    @DisplayName("Should only count transitions once their transaction has committed")
+    void onClaimTransition_ListensAfterCommit() throws NoSuchMethodException {
+        // When
+        TransactionalEventListener listener = ClaimStatusCounters.class
+                .getMethod("onClaimTransition", ClaimTransitionEvent.class)
+                .getAnnotation(TransactionalEventListener.class);
+
+        // Then
+        assertThat(listener).isNotNull();
+        assertThat(listener.phase()).isEqualTo(TransactionPhase.AFTER_COMMIT);
+    }
+
+    @Test
+    @DisplayName("Should add submissions and move transitions between statuses without querying")
+    void onClaimTransition_AppliesDeltas() {
+        // Given
+        when(claimRepository.countGroupedByStatus()).thenReturn(List.of(count(Claim.ClaimStatus.SUBMITTED, 2)));
+        counters.warm();
+
+        // When
+        counters.onClaimTransition(transition(null, Claim.ClaimStatus.SUBMITTED));
+        counters.onClaimTransition(transition(Claim.ClaimStatus.SUBMITTED, Claim.ClaimStatus.UNDER_REVIEW));
+
+        // Then
+        assertThat(counters.snapshot())
+                .containsEntry(Claim.ClaimStatus.SUBMITTED, 2L)
+                .containsEntry(Claim.ClaimStatus.UNDER_REVIEW, 1L)
+                .containsEntry(Claim.ClaimStatus.APPROVED, 0L);
+        verify(claimRepository, times(1)).countGroupedByStatus();
+    }
+
+    @Test
+    @DisplayName("Should correct drifted counts on reconcile")
+    void reconcile_ReplacesDriftedCounts() {
+        // Given: warmed, then a transition made by another instance is missed
+        when(claimRepository.countGroupedByStatus())
+                .thenReturn(List.of(count(Claim.ClaimStatus.SUBMITTED, 3)))
+                .thenReturn(List.of(count(Claim.ClaimStatus.SUBMITTED, 2), count(Claim.ClaimStatus.APPROVED, 1)));
+        counters.warm();
+
+        // When
+        counters.reconcile();
+
+        // Then
+        assertThat(counters.snapshot())
+                .containsEntry(Claim.ClaimStatus.SUBMITTED, 2L)
+                .containsEntry(Claim.ClaimStatus.APPROVED, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reset a status that no longer has claims to zero on reconcile")
+    void reconcile_ZeroesMissingStatus() {
+        // Given
+        when(claimRepository.countGroupedByStatus())
+                .thenReturn(List.of(count(Claim.ClaimStatus.UNDER_REVIEW, 1)))
+                .thenReturn(List.of());
+        counters.warm();
+
+        // When
+        counters.reconcile();
+
+        // Then
+        assertThat(counters.snapshot()).containsEntry(Claim.ClaimStatus.UNDER_REVIEW, 0L);
+    }
+
+    private static ClaimTransitionEvent transition(Claim.ClaimStatus previousStatus, Claim.ClaimStatus newStatus) {
+        return new ClaimTransitionEvent(new Claim(), previousStatus, newStatus, LocalDateTime.now());
+    }
+
+    private static ClaimStatusCount count(Claim.ClaimStatus status, long total) {
+        return new ClaimStatusCount() {
+            @Override
+            public Claim.ClaimStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
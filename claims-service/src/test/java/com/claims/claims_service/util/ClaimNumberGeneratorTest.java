@@ -0,0 +1,142 @@
+package com.claims.claims_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ClaimNumberGenerator
+ */
+@DisplayName("ClaimNumberGenerator Unit Tests")
+class ClaimNumberGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate claim numbers in the CLM- format")
+    void nextClaimNumber_Format() {
+        ClaimNumberGenerator generator = new ClaimNumberGenerator(7, System::currentTimeMillis);
+
+        String claimNumber = generator.nextClaimNumber();
+
+        assertThat(claimNumber).matches("CLM-[0-9A-HJKMNP-TV-Z]{13}");
+    }
+
+    @Test
+    @DisplayName("Should keep ids strictly increasing when the sequence overflows within one millisecond")
+    void nextId_SequenceOverflow() {
+        long frozenMillis = ClaimNumberGenerator.EPOCH_MILLIS + 1_000;
+        ClaimNumberGenerator generator = new ClaimNumberGenerator(1, () -> frozenMillis);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay monotonic when the clock moves backwards")
+    void nextId_ClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(ClaimNumberGenerator.EPOCH_MILLIS + 50_000);
+        ClaimNumberGenerator generator = new ClaimNumberGenerator(1, clock::get);
+
+        String before = generator.nextClaimNumber();
+        clock.addAndGet(-10_000);
+        String after = generator.nextClaimNumber();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should generate unique claim numbers across threads")
+    void nextClaimNumber_Concurrent() throws Exception {
+        ClaimNumberGenerator generator = new ClaimNumberGenerator(3, System::currentTimeMillis);
+        Set<String> claimNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        claimNumbers.add(generator.nextClaimNumber());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(claimNumbers).hasSize(160_000);
+    }
+
+    @Test
+    @DisplayName("Should reject node ids outside the 10-bit range")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new ClaimNumberGenerator(1024, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse to derive a node id outside the dev, local and test profiles")
+    void constructor_NodeIdRequired() {
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("prod");
+
+        assertThatThrownBy(() -> new ClaimNumberGenerator(-1, production))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("claims.claim-number.node-id");
+        assertThat(new ClaimNumberGenerator(5, production).nextId() >>> ClaimNumberGenerator.SEQUENCE_BITS
+                & ClaimNumberGenerator.MAX_NODE_ID).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should start from the shipped config without any profile")
+    void shippedConfig_Starts() {
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.getEnvironment().getPropertySources().addFirst(shippedConfig()))
+                .withBean(ClaimNumberGenerator.class)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context.getEnvironment().getActiveProfiles()).isEmpty();
+                    assertThat(context.getBean(ClaimNumberGenerator.class).nextClaimNumber()).startsWith("CLM-");
+                });
+    }
+
+    @Test
+    @DisplayName("Should derive a node id in the dev profile")
+    void deriveNodeId_DevProfile() {
+        MockEnvironment dev = new MockEnvironment();
+        dev.setActiveProfiles("dev");
+
+        assertThat(ClaimNumberGenerator.deriveNodeId(dev)).isBetween(0L, ClaimNumberGenerator.MAX_NODE_ID);
+    }
+
+    // The claims-service config the config server serves, read from the config repo checkout
+    private static ResourcePropertySource shippedConfig() {
+        try {
+            return new ResourcePropertySource(new FileSystemResource("../config-repo/claims-service.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.claims.claims_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HierarchicalTimingWheel
+ */
+@DisplayName("HierarchicalTimingWheel Unit Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_750_000_000_000L;
+    private static final long TICK = 1_000;
+
+    @Test
+    @DisplayName("Should expire a timer at its deadline, not before")
+    void advanceTo_ExpiresAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 64, START);
+        wheel.schedule("CLM-A", START + 10 * TICK);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advanceTo(START + 9 * TICK, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(START + 10 * TICK, expired::add);
+        assertThat(expired).containsExactly("CLM-A");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade far-off timers down the levels and expire them on time")
+    void advanceTo_CascadesFarDeadlines() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 64, START);
+        long deadline = START + Duration.ofHours(48).toMillis() + 500;
+        wheel.schedule("CLM-A", deadline);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advanceTo(deadline - TICK, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(deadline + TICK, expired::add);
+        assertThat(expired).containsExactly("CLM-A");
+    }
+
+    @Test
+    @DisplayName("Should not expire a cancelled timer")
+    void cancel_RemovesTimer() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 64, START);
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule("CLM-A", START + 5 * TICK);
+        wheel.schedule("CLM-B", START + 5 * TICK);
+
+        assertThat(wheel.cancel(timeout)).isTrue();
+        assertThat(wheel.cancel(timeout)).isFalse();
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(START + 10 * TICK, expired::add);
+        assertThat(expired).containsExactly("CLM-B");
+    }
+
+    @Test
+    @DisplayName("Should expire a timer scheduled in the past on the next tick")
+    void schedule_PastDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 64, START);
+        wheel.schedule("CLM-A", START - Duration.ofDays(3).toMillis());
+        List<String> expired = new ArrayList<>();
+
+        wheel.advanceTo(START + TICK, expired::add);
+
+        assertThat(expired).containsExactly("CLM-A");
+    }
+
+    @Test
+    @DisplayName("Should expire every random timer exactly once, neither early nor late")
+    void advanceTo_RandomDeadlines() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, 16, START);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = START + (long) (random.nextDouble() * Duration.ofDays(10).toMillis());
+            deadlines.put(i, deadline);
+            wheel.schedule(i, deadline);
+        }
+
+        List<Integer> expired = new ArrayList<>();
+        long now = START;
+        while (wheel.size() > 0) {
+            now += Duration.ofMinutes(7).toMillis();
+            long until = now;
+            wheel.advanceTo(now, id -> {
+                assertThat(deadlines.get(id)).isLessThanOrEqualTo(until);
+                assertThat(deadlines.get(id)).isGreaterThan(until - Duration.ofMinutes(7).toMillis() - TICK);
+                expired.add(id);
+            });
+        }
+
+        assertThat(expired).hasSize(5_000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should reject a wheel size that is not a power of two")
+    void constructor_InvalidWheelSize() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(TICK, 60, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
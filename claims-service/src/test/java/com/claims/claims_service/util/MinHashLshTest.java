@@ -0,0 +1,79 @@
+package com.claims.claims_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MinHashLsh
+ */
+@DisplayName("MinHashLsh Unit Tests")
+class MinHashLshTest {
+
+    private static final String ORIGINAL = "Water pipe burst in the upstairs bathroom overnight and flooded the kitchen "
+            + "ceiling, damaging cabinets, the floor and a refrigerator. 12 Harbour Street, Sfax";
+
+    @Test
+    @DisplayName("Should find a lightly edited copy and score it above an unrelated text")
+    void findSimilar_LightEdit() {
+        MinHashLsh lsh = new MinHashLsh(128, 32, 42);
+        lsh.put("CLM-A", ORIGINAL);
+        lsh.put("CLM-B", "Water pipe burst in the upstairs bathroom over night and flooded our kitchen "
+                + "ceiling, damaging cabinets, the floor and the fridge. 12 Harbour St, Sfax");
+        lsh.put("CLM-C", "Rear-ended at a red light on the ring road, bumper and tail lights broken. Tunis");
+
+        List<MinHashLsh.Match> matches = lsh.findSimilar(ORIGINAL, "CLM-A", 0.5, 10);
+
+        assertThat(matches).extracting(MinHashLsh.Match::key).containsExactly("CLM-B");
+        assertThat(matches.get(0).similarity()).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and punctuation when comparing texts")
+    void findSimilar_Normalized() {
+        MinHashLsh lsh = new MinHashLsh(128, 32, 42);
+        lsh.put("CLM-A", ORIGINAL.toUpperCase().replace(",", " ;"));
+
+        List<MinHashLsh.Match> matches = lsh.findSimilar(ORIGINAL, null, 0.99, 10);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop a key from its buckets when it is removed or replaced")
+    void put_ReplacesAndRemoves() {
+        MinHashLsh lsh = new MinHashLsh(128, 32, 42);
+        lsh.put("CLM-A", ORIGINAL);
+        lsh.put("CLM-A", "Hail storm dented the roof and bonnet of the car parked outside. Sousse");
+
+        assertThat(lsh.findSimilar(ORIGINAL, null, 0.5, 10)).isEmpty();
+        assertThat(lsh.size()).isEqualTo(1);
+
+        lsh.remove("CLM-A");
+
+        assertThat(lsh.findSimilar("Hail storm dented the roof and bonnet of the car parked outside. Sousse", null, 0.1, 10))
+                .isEmpty();
+        assertThat(lsh.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not index blank text")
+    void put_BlankText() {
+        MinHashLsh lsh = new MinHashLsh(128, 32, 42);
+
+        assertThat(lsh.put("CLM-A", " ... ")).isFalse();
+        assertThat(lsh.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a band count that does not divide the signature length")
+    void constructor_InvalidBands() {
+        assertThatThrownBy(() -> new MinHashLsh(128, 30, 42))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.claims.claims_service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SlidingWindowCounter
+ */
+@DisplayName("SlidingWindowCounter Unit Tests")
+class SlidingWindowCounterTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long START = 20_000 * DAY;
+
+    @Test
+    @DisplayName("Should count events per key within the window")
+    void count_PerKey() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(30), 30, 8, clock::get);
+
+        counter.increment("user-1");
+        counter.increment("user-1");
+        counter.increment("user-2");
+
+        assertThat(counter.count("user-1")).isEqualTo(2);
+        assertThat(counter.count("user-2")).isEqualTo(1);
+        assertThat(counter.count("user-3")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop events once they slide out of the window")
+    void count_Expires() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(30), 30, 8, clock::get);
+        counter.increment("user-1");
+        clock.addAndGet(10 * DAY);
+        counter.increment("user-1");
+
+        clock.addAndGet(19 * DAY);
+        assertThat(counter.count("user-1")).isEqualTo(2);
+
+        clock.addAndGet(DAY);
+        assertThat(counter.count("user-1")).isEqualTo(1);
+
+        clock.addAndGet(100 * DAY);
+        assertThat(counter.count("user-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should place past events in their own bucket and ignore those outside the window")
+    void record_PastEvents() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(30), 30, 8, clock::get);
+
+        counter.record("policy-1", START - 5 * DAY);
+        counter.record("policy-1", START - 45 * DAY);
+        counter.record("policy-1", START + 5 * DAY);
+
+        assertThat(counter.count("policy-1")).isEqualTo(1);
+
+        clock.addAndGet(25 * DAY);
+        assertThat(counter.count("policy-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict keys with nothing left in the window")
+    void evictIdle_RemovesEmptyKeys() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(30), 30, 8, clock::get);
+        counter.increment("user-1");
+        clock.addAndGet(20 * DAY);
+        counter.increment("user-2");
+        clock.addAndGet(15 * DAY);
+
+        assertThat(counter.evictIdle()).isEqualTo(1);
+        assertThat(counter.size()).isEqualTo(1);
+        assertThat(counter.count("user-2")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not lose increments under concurrent updates")
+    void increment_Concurrent() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofDays(30), 30, 4, () -> START);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        counter.increment("user-" + (i % 10));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int k = 0; k < 10; k++) {
+            assertThat(counter.count("user-" + k)).isEqualTo(800);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a window shorter than one millisecond per bucket")
+    void constructor_InvalidWindow() {
+        assertThatThrownBy(() -> new SlidingWindowCounter(Duration.ofMillis(10), 30, 8, () -> START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}